@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.9"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.travelerApp"
@@ -10,7 +11,7 @@ description = "Demo project for Spring Boot"
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -20,6 +21,23 @@ configurations {
 	}
 }
 
+// 부하 테스트 (소스: src/loadTest/java, 앱 클래스와 의존성을 그대로 사용)
+sourceSets {
+	create("loadTest") {
+		compileClasspath += sourceSets.main.get().output
+		runtimeClasspath += sourceSets.main.get().output
+	}
+}
+
+configurations {
+	named("loadTestImplementation") {
+		extendsFrom(configurations.implementation.get())
+	}
+	named("loadTestRuntimeOnly") {
+		extendsFrom(configurations.runtimeOnly.get())
+	}
+}
+
 repositories {
 	mavenCentral()
 }
@@ -31,15 +49,17 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-webflux") // WebClient for external API calls
+	implementation("org.springframework.boot:spring-boot-starter-actuator") // 메트릭 수집
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus") // /actuator/prometheus 스크랩
+
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
 	// JWT
 	implementation("io.jsonwebtoken:jjwt-api:0.12.6")
 	runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
 	runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
 
-	// Google OAuth
-	implementation("com.google.api-client:google-api-client:2.7.0")
-
 	// Database
 	runtimeOnly("com.mysql:mysql-connector-j")
 	runtimeOnly("com.h2database:h2") // 개발용 인메모리 DB
@@ -58,8 +78,56 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+	// Benchmark (모의 요청·응답, 테스트용 빈 구성)
+	jmh("org.springframework:spring-test")
+
+	// Load test (지연 분포 기록)
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 마이크로 벤치마크 (./gradlew jmh, 소스: src/jmh/java)
+// 특정 벤치마크만: ./gradlew jmh -Pjmh.includes=JwtTokenBenchmark
+jmh {
+	includes = providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf(".*"))
+	warmupIterations = 2
+	warmup = "1s"
+	iterations = 3
+	timeOnIteration = "2s"
+	fork = 1
+	resultFormat = "JSON"
+	profilers = listOf("gc") // 연산당 할당량 (gc.alloc.rate.norm)
+}
+
+// 부하 테스트 (로컬 스텁 서버 + H2로 앱 기동 후 혼합 트래픽, 결과: build/load-test/<커밋>.json)
+// ./gradlew loadTest -PloadTest.duration=60s -PloadTest.concurrency=32 -PloadTest.baseline=<이전 커밋>
+// 가상 스레드 모드 비교: -PloadTest.virtual-threads=true -PloadTest.label=<커밋>-vt -PloadTest.baseline=<커밋>
+tasks.register<JavaExec>("loadTest") {
+	description = "Runs the mixed-traffic load test against a locally booted app."
+	group = "verification"
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "com.travelerApp.demo.loadtest.LoadTestMain"
+	maxHeapSize = "1g"
+
+	val commit = providers.exec {
+		commandLine("git", "rev-parse", "--short", "HEAD")
+		isIgnoreExitValue = true
+	}.standardOutput.asText.map { it.trim().ifEmpty { "local" } }
+	val outputDir = layout.buildDirectory.dir("load-test")
+
+	systemProperty("loadTest.label", providers.gradleProperty("loadTest.label").orElse(commit).get())
+	systemProperty("loadTest.output", outputDir.get().asFile.absolutePath)
+	listOf("baseline", "duration", "warmup", "users", "concurrency", "upstream-latency", "burst-interval", "burst-size",
+		"virtual-threads")
+		.forEach { key ->
+			providers.gradleProperty("loadTest.$key").orNull?.let { systemProperty("loadTest.$key", it) }
+		}
+	// 가상 스레드가 캐리어에 고정(pinning)되는 지점 출력
+	if (providers.gradleProperty("loadTest.trace-pinned").isPresent) {
+		jvmArgs("-Djdk.tracePinnedThreads=short")
+	}
+}
@@ -0,0 +1,26 @@
+package com.travelerApp.demo.benchmark;
+
+import com.travelerApp.demo.global.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 스프링 컨텍스트 없이 벤치마크 대상 빈 구성
+final class BenchmarkSupport {
+
+    // application.yml 과 같은 만료 시간, 64바이트 이상 비밀키
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+    private static final long ACCESS_TOKEN_EXPIRATION = 1_800_000L;
+    private static final long REFRESH_TOKEN_EXPIRATION = 1_209_600_000L;
+
+    private BenchmarkSupport() {
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
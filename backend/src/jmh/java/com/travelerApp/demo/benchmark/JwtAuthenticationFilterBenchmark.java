@@ -0,0 +1,75 @@
+package com.travelerApp.demo.benchmark;
+
+import com.travelerApp.demo.global.security.jwt.AccessTokenDenylist;
+import com.travelerApp.demo.global.security.jwt.JwtAuthenticationFilter;
+import com.travelerApp.demo.global.security.jwt.JwtPrincipalCache;
+import com.travelerApp.demo.global.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 인증이 필요한 요청 1건이 JWT 필터에서 쓰는 비용 (모의 요청·응답, 빈 필터 체인)
+// cached: 같은 토큰 반복 (검증 결과 캐시 적중), uncached: 서로 다른 토큰을 돌려 가며 사용 (매번 서명 검증)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"cached", "uncached"})
+    private String cache;
+
+    private static final int UNCACHED_TOKENS = 4096;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest[] requests;
+    private int next;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = BenchmarkSupport.jwtTokenProvider();
+        boolean cached = "cached".equals(cache);
+        JwtPrincipalCache principalCache = new JwtPrincipalCache(jwtTokenProvider, new SimpleMeterRegistry(),
+                cached ? 10_000 : 1);
+        // 폐기 목록이 비어 있으면 Bloom filter 에서 끝나므로 저장소는 쓰이지 않음
+        AccessTokenDenylist denylist = new AccessTokenDenylist(null, null, 1_800_000, 100_000, 0.001, false);
+        filter = new JwtAuthenticationFilter(principalCache, denylist);
+
+        requests = new MockHttpServletRequest[cached ? 1 : UNCACHED_TOKENS];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/api/cities");
+            requests[i].addHeader("Authorization", "Bearer " + jwtTokenProvider.createAccessToken((long) i, "traveler@example.com"));
+        }
+        response = new MockHttpServletResponse();
+        chain = (servletRequest, servletResponse) -> {
+        };
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws ServletException, IOException {
+        try {
+            MockHttpServletRequest request = requests[next];
+            next = (next + 1) % requests.length;
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.travelerApp.demo.benchmark;
+
+import com.travelerApp.demo.global.security.jwt.JwtPrincipal;
+import com.travelerApp.demo.global.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Access Token 발급·검증·클레임 추출 처리량 (64바이트 이상 비밀키 → HS512)
+// 할당량은 -prof gc 결과의 gc.alloc.rate.norm (연산 1회당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenBenchmark {
+
+    private static final long USER_SEQ = 42L;
+    private static final String EMAIL = "traveler@example.com";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkSupport.jwtTokenProvider();
+        accessToken = jwtTokenProvider.createAccessToken(USER_SEQ, EMAIL);
+    }
+
+    // 로그인·재발급 시 발급
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(USER_SEQ, EMAIL);
+    }
+
+    // 서명·만료 검증만
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    // 검증 + subject 추출
+    @Benchmark
+    public Long getUserSeq() {
+        return jwtTokenProvider.getUserSeq(accessToken);
+    }
+
+    // 필터가 캐시 미스 때 수행하는 검증 + 인증 정보 생성
+    @Benchmark
+    public JwtPrincipal verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+}
@@ -0,0 +1,111 @@
+package com.travelerApp.demo.benchmark;
+
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// refresh_tokens 조회 비용: 원문 VARCHAR(512) UNIQUE vs SHA-256 BINARY(32) UNIQUE (H2 인메모리)
+// 200만 행 적재에 힙이 필요하므로 -jvmArgs -Xmx3g 로 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenLookupBenchmark {
+
+    @Param({"2000000"})
+    private int rows;
+
+    @Param({"varchar", "binary"})
+    private String column;
+
+    private Connection connection;
+    private PreparedStatement lookup;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:lookup-" + column + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE refresh_tokens (seq BIGINT AUTO_INCREMENT PRIMARY KEY, user_seq BIGINT NOT NULL, "
+                    + (isBinary() ? "token_hash BINARY(32)" : "token VARCHAR(512)") + " NOT NULL UNIQUE)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO refresh_tokens (user_seq, " + keyColumn() + ") VALUES (?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setLong(1, i);
+                bindKey(insert, 2, token(i));
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        lookup = connection.prepareStatement("SELECT seq, user_seq FROM refresh_tokens WHERE " + keyColumn() + " = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    // 임의 토큰 1건 조회 (binary는 다이제스트 계산 비용 포함)
+    @Benchmark
+    public long findByToken() throws SQLException {
+        bindKey(lookup, 1, token(ThreadLocalRandom.current().nextInt(rows)));
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(2) : -1;
+        }
+    }
+
+    private boolean isBinary() {
+        return "binary".equals(column);
+    }
+
+    private String keyColumn() {
+        return isBinary() ? "token_hash" : "token";
+    }
+
+    private void bindKey(PreparedStatement statement, int index, String token) throws SQLException {
+        if (isBinary()) {
+            statement.setBytes(index, TokenHasher.sha256(token));
+        } else {
+            statement.setString(index, token);
+        }
+    }
+
+    // 실제 Refresh Token과 비슷한 길이(약 170자)의 JWT 형태 문자열
+    private static String token(int i) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String payload = "{\"sub\":\"" + i + "\",\"type\":\"refresh\",\"iat\":1760000000,\"exp\":1761209600}";
+        String signature = encoder.encodeToString(TokenHasher.sha256("signature-" + i));
+        return "eyJhbGciOiJIUzM4NCJ9." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + signature;
+    }
+}
@@ -0,0 +1,86 @@
+package com.travelerApp.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 앱 호출 + 엔드포인트별 기록 (요청 단위 시간은 응답 본문 수신까지)
+class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    JsonNode get(String endpoint, String pathAndQuery, String accessToken) {
+        return send(endpoint, request(pathAndQuery, accessToken).GET());
+    }
+
+    JsonNode post(String endpoint, String path, String accessToken, Object body) {
+        try {
+            return send(endpoint, request(path, accessToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패: " + endpoint, e);
+        }
+    }
+
+    // 2xx면 응답 본문, 아니면 null
+    private JsonNode send(String endpoint, HttpRequest.Builder request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - startedAt;
+            boolean success = response.statusCode() / 100 == 2;
+            endpointStats.record(elapsed, String.valueOf(response.statusCode()), success);
+            if (!success) {
+                return null;
+            }
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - startedAt, e.getClass().getSimpleName(), false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    // 워밍업 구간 기록 제거
+    void resetStats() {
+        stats.values().forEach(EndpointStats::reset);
+    }
+
+    Collection<EndpointStats> stats() {
+        return stats.values();
+    }
+}
@@ -0,0 +1,58 @@
+package com.travelerApp.demo.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간 분포와 결과 코드 집계
+class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    // outcome: HTTP 상태 코드 또는 예외 이름, 2xx가 아니면 오류
+    void record(long elapsedNanos, String outcome, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        latency.reset();
+        outcomes.clear();
+        errors.reset();
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram latency() {
+        return latency.copy();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+}
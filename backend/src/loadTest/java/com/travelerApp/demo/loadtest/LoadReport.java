@@ -0,0 +1,131 @@
+package com.travelerApp.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 측정 결과 출력 및 커밋별 JSON 저장 (같은 설정으로 돌린 이전 결과와 비교)
+class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final LoadTestOptions options;
+    private final Duration measured;
+    private final List<Map<String, Object>> endpoints = new ArrayList<>();
+    private final Map<String, Object> runtime;
+
+    LoadReport(LoadTestOptions options, Duration measured, Collection<EndpointStats> stats, Map<String, Object> runtime) {
+        this.options = options;
+        this.measured = measured;
+        this.runtime = runtime;
+        stats.stream()
+                .filter(endpoint -> endpoint.latency().getTotalCount() > 0) // 준비 단계에서만 호출된 엔드포인트 제외
+                .forEach(endpoint -> endpoints.add(summarize(endpoint)));
+    }
+
+    private Map<String, Object> summarize(EndpointStats stats) {
+        Histogram histogram = stats.latency();
+        long requests = histogram.getTotalCount();
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", Math.round(histogram.getMean()) / 1000.0);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", stats.name());
+        summary.put("requests", requests);
+        summary.put("throughput", round(requests / (measured.toMillis() / 1000.0)));
+        summary.put("errors", stats.errors());
+        summary.put("errorRate", requests == 0 ? 0.0 : round(stats.errors() * 100.0 / requests));
+        summary.put("latencyMs", latency);
+        summary.put("outcomes", stats.outcomes());
+        return summary;
+    }
+
+    void print(PrintStream out, JsonNode baseline) {
+        out.printf("%n부하 테스트 [%s] 측정 %ds, 동시 %d, 사용자 %d, 외부 API 지연 %dms, %s 스레드%n",
+                options.label(), measured.toSeconds(), options.concurrency(), options.users(),
+                options.upstreamLatency().toMillis(), options.virtualThreads() ? "가상" : "플랫폼");
+        out.printf("%-36s %8s %8s %7s %8s %8s %8s %8s %8s%s%n",
+                "endpoint", "requests", "rps", "err%", "p50", "p90", "p99", "p99.9", "max",
+                baseline != null ? "   Δp50    Δp99" : "");
+        for (Map<String, Object> endpoint : endpoints) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> latency = (Map<String, Object>) endpoint.get("latencyMs");
+            out.printf("%-36s %8d %8.1f %7.2f %8.2f %8.2f %8.2f %8.2f %8.2f%s%n",
+                    endpoint.get("endpoint"), endpoint.get("requests"), endpoint.get("throughput"),
+                    endpoint.get("errorRate"), latency.get("p50"), latency.get("p90"), latency.get("p99"),
+                    latency.get("p999"), latency.get("max"),
+                    baseline != null ? delta(baseline, (String) endpoint.get("endpoint"), latency) : "");
+        }
+        long requests = endpoints.stream().mapToLong(endpoint -> (long) endpoint.get("requests")).sum();
+        out.printf("전체 %.1f rps, JVM %s%n", requests / (measured.toMillis() / 1000.0), runtime);
+    }
+
+    // 이전 결과 대비 증감 (ms, 이전 결과에 없는 엔드포인트는 공란)
+    private String delta(JsonNode baseline, String endpoint, Map<String, Object> latency) {
+        for (JsonNode previous : baseline.path("endpoints")) {
+            if (endpoint.equals(previous.path("endpoint").asText())) {
+                JsonNode previousLatency = previous.path("latencyMs");
+                return String.format(" %+7.2f %+7.2f",
+                        (double) latency.get("p50") - previousLatency.path("p50").asDouble(),
+                        (double) latency.get("p99") - previousLatency.path("p99").asDouble());
+            }
+        }
+        return "";
+    }
+
+    Path write() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("finishedAt", Instant.now().toString());
+        report.put("options", Map.of(
+                "durationSeconds", measured.toSeconds(),
+                "users", options.users(),
+                "concurrency", options.concurrency(),
+                "upstreamLatencyMs", options.upstreamLatency().toMillis(),
+                "burstSize", options.burstSize(),
+                "burstIntervalMs", options.burstInterval().toMillis(),
+                "virtualThreads", options.virtualThreads()
+        ));
+        report.put("runtime", runtime);
+        report.put("endpoints", endpoints);
+
+        Files.createDirectories(options.outputDirectory());
+        Path file = options.outputDirectory().resolve(options.label() + ".json");
+        MAPPER.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    static JsonNode readBaseline(LoadTestOptions options) throws IOException {
+        if (options.baseline() == null) {
+            return null;
+        }
+        Path file = options.outputDirectory().resolve(options.baseline() + ".json");
+        return Files.exists(file) ? MAPPER.readTree(file.toFile()) : null;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
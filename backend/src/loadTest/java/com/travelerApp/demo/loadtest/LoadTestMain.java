@@ -0,0 +1,291 @@
+package com.travelerApp.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.travelerApp.demo.TravelerAppApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 앱을 H2 + 로컬 스텁으로 기동하고 혼합 트래픽(로그인·재발급 폭주·인증 조회)을 closed-loop로 발생
+public class LoadTestMain {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final int CITIES_PER_USER = 3;
+    private static final int EXPENSES_PER_USER = 10;
+
+    // 가상 사용자 1회 동작과 비중 (%)
+    private enum Action {
+        LOGIN(5), GOOGLE_LOGIN(3), REFRESH(10),
+        CITIES(15), CITY_WEATHER(10), CITY_SEARCH(10), WEATHER(10),
+        EXPENSE_SUMMARY(15), SCHEDULES(12), EXCHANGE_RATE(10);
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+
+        static Action pick(int roll) {
+            for (Action action : values()) {
+                roll -= action.weight;
+                if (roll < 0) {
+                    return action;
+                }
+            }
+            return EXCHANGE_RATE;
+        }
+    }
+
+    // 가상 사용자 (한 워커만 사용, 기기 하나의 토큰을 계속 교체)
+    private static final class Session {
+        final int index;
+        final String email;
+        final String deviceId;
+        String accessToken;
+        String refreshToken;
+
+        Session(int index) {
+            this.index = index;
+            this.email = "load-" + index + "@example.com";
+            this.deviceId = "load-" + index;
+        }
+
+        boolean apply(JsonNode tokens) {
+            if (tokens == null) {
+                return false;
+            }
+            accessToken = tokens.path("accessToken").asText();
+            refreshToken = tokens.path("refreshToken").asText();
+            return true;
+        }
+    }
+
+    private final LoadTestOptions options;
+    private final StubUpstreams stubs;
+    private final ApiClient api;
+    private final List<Session> sessions = new ArrayList<>();
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    private LoadTestMain(LoadTestOptions options, StubUpstreams stubs, ApiClient api) {
+        this.options = options;
+        this.stubs = stubs;
+        this.api = api;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        if (options.users() < options.concurrency()) {
+            throw new IllegalArgumentException("users는 concurrency 이상이어야 합니다 (워커별 전용 사용자).");
+        }
+
+        Path historyDirectory = Files.createTempDirectory("load-test-rates");
+        try (StubUpstreams stubs = new StubUpstreams(options.upstreamLatency());
+             ConfigurableApplicationContext context = start(options, stubs, historyDirectory)) {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            new LoadTestMain(options, stubs, new ApiClient(baseUrl)).run();
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options, StubUpstreams stubs, Path historyDirectory) {
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+
+        List<String> arguments = new ArrayList<>(stubs.applicationArguments());
+        arguments.addAll(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(secret),
+                "--security.throttle.ip-per-minute=100000000",
+                "--security.throttle.email-per-minute=100000000",
+                "--exchange-rate.history.directory=" + historyDirectory,
+                "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.travelerApp.demo=WARN",
+                "--logging.level.org.springframework.security=WARN"
+        ));
+        return SpringApplication.run(TravelerAppApplication.class, arguments.toArray(String[]::new));
+    }
+
+    private void run() throws Exception {
+        seed();
+
+        // 부하 발생기는 모드와 관계없이 가상 스레드 (발생기 스레드 수가 비교에 끼어들지 않도록)
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        RuntimeSampler runtime = new RuntimeSampler();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < options.concurrency(); worker++) {
+            List<Session> owned = new ArrayList<>();
+            for (int i = worker; i < sessions.size(); i += options.concurrency()) {
+                owned.add(sessions.get(i));
+            }
+            futures.add(workers.submit(() -> drive(owned)));
+        }
+        futures.add(workers.submit(this::refreshBursts));
+
+        System.out.printf("워밍업 %ds ...%n", options.warmup().toSeconds());
+        Thread.sleep(options.warmup().toMillis());
+        api.resetStats();
+        runtime.start();
+        long measureStart = System.nanoTime();
+        System.out.printf("측정 %ds ...%n", options.duration().toSeconds());
+        Thread.sleep(options.duration().toMillis());
+        running.set(false);
+        Duration measured = Duration.ofNanos(System.nanoTime() - measureStart);
+        Map<String, Object> runtimeSummary = runtime.summary();
+        runtime.close();
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+
+        LoadReport report = new LoadReport(options, measured, api.stats(), runtimeSummary);
+        report.print(System.out, LoadReport.readBaseline(options));
+        System.out.println("결과 저장: " + report.write());
+    }
+
+    // 사용자별 가입·로그인, 저장 도시와 지출 준비
+    private void seed() throws Exception {
+        System.out.printf("사용자 %d명 준비 ...%n", options.users());
+        ExecutorService seeders = Executors.newFixedThreadPool(Math.min(8, options.users()));
+        List<Future<Session>> futures = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            int index = i;
+            futures.add(seeders.submit(() -> seedUser(index)));
+        }
+        for (Future<Session> future : futures) {
+            sessions.add(future.get());
+        }
+        seeders.shutdown();
+    }
+
+    private Session seedUser(int index) {
+        Session session = new Session(index);
+        api.post("POST /api/auth/signup", "/api/auth/signup", null,
+                Map.of("email", session.email, "password", PASSWORD, "nickname", "load" + index));
+        if (!session.apply(login(session))) {
+            throw new IllegalStateException("시드 사용자 로그인 실패: " + session.email);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < CITIES_PER_USER; i++) {
+            api.post("POST /api/cities", "/api/cities", session.accessToken, Map.of(
+                    "name", "City " + index + "-" + i,
+                    "country", "KR",
+                    "latitude", 33 + random.nextDouble() * 5,
+                    "longitude", 126 + random.nextDouble() * 3));
+        }
+        String[] categories = {"FOOD", "TRANSPORT", "ACCOMMODATION", "SHOPPING", "ACTIVITY", "OTHER"};
+        for (int i = 0; i < EXPENSES_PER_USER; i++) {
+            api.post("POST /api/expenses", "/api/expenses", session.accessToken, Map.of(
+                    "amount", random.nextInt(1_000, 200_000),
+                    "currency", i % 3 == 0 ? "USD" : "KRW",
+                    "category", categories[i % categories.length],
+                    "date", LocalDate.now().minusDays(i).toString()));
+        }
+        return session;
+    }
+
+    private JsonNode login(Session session) {
+        return api.post("POST /api/auth/login", "/api/auth/login", null,
+                Map.of("email", session.email, "password", PASSWORD, "deviceId", session.deviceId));
+    }
+
+    private void drive(List<Session> owned) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+            Session session = owned.get(random.nextInt(owned.size()));
+            switch (Action.pick(random.nextInt(100))) {
+                case LOGIN -> session.apply(login(session));
+                case GOOGLE_LOGIN -> api.post("POST /api/auth/google", "/api/auth/google", null, Map.of(
+                        "idToken", stubs.idToken("google-" + session.index, "google-" + session.email),
+                        "deviceId", "google"));
+                case REFRESH -> {
+                    JsonNode tokens = api.post("POST /api/auth/refresh", "/api/auth/refresh", null,
+                            Map.of("refreshToken", session.refreshToken));
+                    if (!session.apply(tokens)) {
+                        session.apply(login(session)); // 세션이 끊겼으면 다시 로그인
+                    }
+                }
+                case CITIES -> api.get("GET /api/cities", "/api/cities", session.accessToken);
+                case CITY_WEATHER -> api.get("GET /api/cities/weather", "/api/cities/weather", session.accessToken);
+                case CITY_SEARCH -> api.get("GET /api/cities/search", "/api/cities/search?q="
+                        + (random.nextBoolean() ? "se" : "to"), session.accessToken);
+                case WEATHER -> api.get("GET /api/weather/current", String.format("/api/weather/current?lat=%.3f&lon=%.3f",
+                        33 + random.nextDouble() * 5, 126 + random.nextDouble() * 3), session.accessToken);
+                case EXPENSE_SUMMARY -> api.get("GET /api/expenses/summary", "/api/expenses/summary", session.accessToken);
+                case SCHEDULES -> api.get("GET /api/schedules", "/api/schedules", session.accessToken);
+                case EXCHANGE_RATE -> api.get("GET /api/exchange-rate", "/api/exchange-rate", session.accessToken);
+            }
+        }
+    }
+
+    // 같은 Refresh Token으로 동시에 재발급 요청 (앱 재실행 직후 여러 탭·요청이 한꺼번에 만료를 감지한 상황)
+    private Void refreshBursts() throws Exception {
+        ExecutorService burst = Executors.newVirtualThreadPerTaskExecutor();
+        Map<Integer, String> burstTokens = new HashMap<>();
+        try {
+            while (running.get()) {
+                Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                String refreshToken = burstTokens.computeIfAbsent(session.index, index -> {
+                    JsonNode tokens = api.post("POST /api/auth/login", "/api/auth/login", null,
+                            Map.of("email", session.email, "password", PASSWORD, "deviceId", "burst"));
+                    return tokens != null ? tokens.path("refreshToken").asText() : null;
+                });
+                if (refreshToken != null) {
+                    burstTokens.put(session.index, fireBurst(burst, refreshToken));
+                } else {
+                    burstTokens.remove(session.index);
+                }
+                Thread.sleep(options.burstInterval().toMillis());
+            }
+        } finally {
+            burst.shutdownNow();
+        }
+        return null;
+    }
+
+    // 다음 폭주에 쓸 새 Refresh Token (모두 실패하면 null)
+    private String fireBurst(ExecutorService burst, String refreshToken) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<JsonNode>> responses = new ArrayList<>();
+        for (int i = 0; i < options.burstSize(); i++) {
+            responses.add(burst.submit(() -> {
+                start.await();
+                return api.post("POST /api/auth/refresh (burst)", "/api/auth/refresh", null,
+                        Map.of("refreshToken", refreshToken));
+            }));
+        }
+        start.countDown();
+
+        String next = null;
+        for (Future<JsonNode> response : responses) {
+            JsonNode tokens = response.get(1, TimeUnit.MINUTES);
+            if (tokens != null) {
+                next = tokens.path("refreshToken").asText();
+            }
+        }
+        return next;
+    }
+}
@@ -0,0 +1,42 @@
+package com.travelerApp.demo.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// 부하 테스트 설정 (시스템 프로퍼티 loadTest.*, Gradle -PloadTest.* 로 전달)
+record LoadTestOptions(
+        String label,
+        String baseline,
+        Path outputDirectory,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int concurrency,
+        Duration upstreamLatency,
+        Duration burstInterval,
+        int burstSize,
+        boolean virtualThreads
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                System.getProperty("loadTest.label", "local"),
+                System.getProperty("loadTest.baseline"),
+                Path.of(System.getProperty("loadTest.output", "build/load-test")),
+                duration("duration", "30s"),
+                duration("warmup", "10s"),
+                Integer.getInteger("loadTest.users", 50),
+                Integer.getInteger("loadTest.concurrency", 32),
+                duration("upstream-latency", "50ms"),
+                duration("burst-interval", "2s"),
+                Integer.getInteger("loadTest.burst-size", 8),
+                Boolean.parseBoolean(System.getProperty("loadTest.virtual-threads", "false"))
+        );
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty("loadTest." + key, defaultValue));
+    }
+}
@@ -0,0 +1,83 @@
+package com.travelerApp.demo.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 측정 구간의 JVM 사용량 (앱과 부하 발생기가 같은 JVM이므로 모드 간 상대 비교용)
+class RuntimeSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.OperatingSystemMXBean os =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong peakHeapUsed = new AtomicLong();
+    private final AtomicLong heapUsedSum = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+    private long startCpuNanos;
+    private long startGcCount;
+    private long startGcMillis;
+
+    // 워밍업 후 호출 (이전 최댓값 초기화)
+    void start() {
+        threads.resetPeakThreadCount();
+        startCpuNanos = os.getProcessCpuTime();
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+        sampler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        long used = memory.getHeapMemoryUsage().getUsed();
+        peakHeapUsed.accumulateAndGet(used, Math::max);
+        heapUsedSum.addAndGet(used);
+        samples.incrementAndGet();
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("peakPlatformThreads", threads.getPeakThreadCount()); // 가상 스레드는 포함되지 않음
+        summary.put("peakHeapUsedMb", megabytes(peakHeapUsed.get()));
+        summary.put("meanHeapUsedMb", samples.get() == 0 ? 0 : megabytes(heapUsedSum.get() / samples.get()));
+        summary.put("heapCommittedMb", megabytes(memory.getHeapMemoryUsage().getCommitted()));
+        summary.put("nonHeapUsedMb", megabytes(memory.getNonHeapMemoryUsage().getUsed()));
+        summary.put("gcCount", gcCount() - startGcCount);
+        summary.put("gcMillis", gcMillis() - startGcMillis);
+        summary.put("cpuSeconds", Math.round((os.getProcessCpuTime() - startCpuNanos) / 1e7) / 100.0);
+        return summary;
+    }
+
+    private long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static long megabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
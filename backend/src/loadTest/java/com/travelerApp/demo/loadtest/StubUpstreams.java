@@ -0,0 +1,121 @@
+package com.travelerApp.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Google 공개키·OpenWeatherMap·수출입은행 API를 대신하는 로컬 스텁 (응답마다 고정 지연)
+class StubUpstreams implements AutoCloseable {
+
+    static final String GOOGLE_CLIENT_ID = "load-test-client";
+    private static final String KEY_ID = "load-test-key";
+
+    private static final String CURRENT = """
+            {"name":"City","dt":1760000000,"main":{"temp":18.5,"feels_like":17.9,"temp_min":16.0,"temp_max":20.1,"humidity":55},
+             "wind":{"speed":2.1},"weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}
+            """;
+    private static final String HOURLY = """
+            {"city":{"name":"City"},"list":[{"dt":1760000000,"main":{"temp":18.5,"humidity":55},"pop":0.1,
+             "weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}]}
+            """;
+    private static final String GEOCODING = """
+            [{"name":"City","local_names":{"ko":"도시"},"lat":37.56,"lon":126.97,"country":"KR"}]
+            """;
+    private static final String RATES = """
+            [{"result":1,"cur_unit":"KRW","cur_nm":"한국 원","deal_bas_r":"1"},
+             {"result":1,"cur_unit":"USD","cur_nm":"미국 달러","deal_bas_r":"1,400.5"},
+             {"result":1,"cur_unit":"EUR","cur_nm":"유로","deal_bas_r":"1,520.1"},
+             {"result":1,"cur_unit":"JPY(100)","cur_nm":"일본 옌","deal_bas_r":"920.3"}]
+            """;
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private final Duration latency;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpServer server;
+
+    StubUpstreams(Duration latency) throws IOException {
+        this.latency = latency;
+        String jwks = new ObjectMapper().writeValueAsString(Map.of("keys", List.of(
+                Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).id(KEY_ID).build()
+        )));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/oauth2/v3/certs", exchange -> respond(exchange, jwks, false));
+        server.createContext("/data/2.5/weather", exchange -> respond(exchange, CURRENT, true));
+        server.createContext("/data/2.5/forecast", exchange -> respond(exchange, HOURLY, true));
+        server.createContext("/geo/1.0/direct", exchange -> respond(exchange, GEOCODING, true));
+        server.createContext("/exchangeJSON", exchange -> respond(exchange, RATES, true));
+        server.start();
+    }
+
+    // 앱이 스텁을 바라보도록 덮어쓸 설정
+    List<String> applicationArguments() {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return List.of(
+                "--google.client-id=" + GOOGLE_CLIENT_ID,
+                "--google.certs-url=" + baseUrl + "/oauth2/v3/certs",
+                "--external-api.openweathermap.base-url=" + baseUrl + "/data/2.5",
+                "--external-api.openweathermap.geo-base-url=" + baseUrl + "/geo/1.0",
+                "--external-api.openweathermap.api-key=load-test",
+                "--external-api.exchange-rate.base-url=" + baseUrl + "/exchangeJSON",
+                "--external-api.exchange-rate.api-key=load-test"
+        );
+    }
+
+    // 스텁 공개키로 서명한 Google ID Token
+    String idToken(String subject, String email) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer("https://accounts.google.com")
+                .audience().add(GOOGLE_CLIENT_ID).and()
+                .subject(subject)
+                .claim("email", email)
+                .claim("name", "Load Tester")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private void respond(HttpExchange exchange, String json, boolean delayed) throws IOException {
+        try (exchange) {
+            if (delayed && !latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (!delayed) {
+                exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("stub interrupted", e));
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
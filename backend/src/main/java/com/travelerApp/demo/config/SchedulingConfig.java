@@ -0,0 +1,10 @@
+package com.travelerApp.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 백그라운드 작업 스케줄링 활성화 (TaskScheduler 빈 자동 구성)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,12 @@
 package com.travelerApp.demo.config;
 
 import com.travelerApp.demo.global.security.jwt.JwtAuthenticationFilter;
+import com.travelerApp.demo.global.security.password.BoundedPasswordEncoder;
+import com.travelerApp.demo.global.security.password.PasswordHashingExecutor;
+import com.travelerApp.demo.global.security.throttle.LoginThrottleFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,10 +25,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginThrottleFilter loginThrottleFilter;
 
+    // BCrypt 해싱은 전용 스레드 풀에서 실행 (strength: BCrypt cost)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                           @Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingExecutor);
     }
 
     @Bean
@@ -44,15 +52,23 @@ public class SecurityConfig {
 
                 // 요청별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치 (원 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 대량 환율 변환은 로그인 사용자만 (요청당 최대 10000건)
+                        .requestMatchers("/api/exchange-rate/convert/bulk").authenticated()
                         // 인증 없이 접근 가능
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/weather/**").permitAll()
                         .requestMatchers("/api/exchange-rate/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/**").permitAll() // 관리 포트(8082, 기본 127.0.0.1 바인딩)로만 노출
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
 
+                // 로그인 요청 제한 필터 추가
+                .addFilterBefore(loginThrottleFilter, UsernamePasswordAuthenticationFilter.class)
+
                 // JWT 필터 추가
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -0,0 +1,39 @@
+package com.travelerApp.demo.config;
+
+import com.travelerApp.demo.global.http.OutboundClient;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 외부 API 호출 창구 (API 별 커넥션 풀·동시 호출 한도·회로 차단기를 따로 둬서 한쪽 장애가 번지지 않게 함)
+@Configuration
+public class WebClientConfig {
+
+    // OpenWeatherMap
+    @Bean
+    public OutboundClient openWeatherMapOutboundClient(OutboundClientFactory factory,
+                                                       @Value("${external-api.openweathermap.base-url}") String baseUrl) {
+        return factory.create("openweathermap", baseUrl);
+    }
+
+    // OpenWeatherMap Geocoding (도시 검색 보조)
+    @Bean
+    public OutboundClient geocodingOutboundClient(OutboundClientFactory factory,
+                                                  @Value("${external-api.openweathermap.geo-base-url}") String baseUrl) {
+        return factory.create("geocoding", baseUrl);
+    }
+
+    // 한국수출입은행 환율
+    @Bean
+    public OutboundClient exchangeRateOutboundClient(OutboundClientFactory factory,
+                                                     @Value("${external-api.exchange-rate.base-url}") String baseUrl) {
+        return factory.create("exchange-rate", baseUrl);
+    }
+
+    // Google 서명 공개키 (인증서 URL 전체를 호출 시 지정)
+    @Bean
+    public OutboundClient googleOutboundClient(OutboundClientFactory factory) {
+        return factory.create("google", null);
+    }
+}
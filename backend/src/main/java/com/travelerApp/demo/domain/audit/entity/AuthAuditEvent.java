@@ -0,0 +1,43 @@
+package com.travelerApp.demo.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 인증 감사 기록 (쓰기는 AuthAuditRecorder가 모아서 JDBC 배치 INSERT, 사용자 삭제 후에도 보존)
+@Entity
+@Table(name = "auth_audit_events",
+        indexes = {
+                @Index(name = "idx_auth_audit_events_user_occurred", columnList = "user_seq, occurred_at"),
+                @Index(name = "idx_auth_audit_events_occurred", columnList = "occurred_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthAuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private AuthAuditEventType eventType;
+
+    @Column(name = "user_seq")
+    private Long userSeq; // 실패 시 null
+
+    @Column(length = 255)
+    private String email;
+
+    @Column(length = 64)
+    private String deviceId;
+
+    @Column(length = 255)
+    private String detail; // 실패 사유
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,11 @@
+package com.travelerApp.demo.domain.audit.entity;
+
+public enum AuthAuditEventType {
+    LOGIN,                  // 로그인 성공
+    LOGIN_FAILED,           // 로그인 실패 (이메일·비밀번호 불일치, 비활성 계정)
+    REFRESH,                // 토큰 재발급
+    REFRESH_FAILED,         // 재발급 실패 (만료·폐기·재사용된 토큰)
+    GOOGLE_LOGIN,           // 구글 로그인 성공
+    GOOGLE_LOGIN_FAILED,    // 구글 로그인 실패
+    LOGOUT                  // 로그아웃
+}
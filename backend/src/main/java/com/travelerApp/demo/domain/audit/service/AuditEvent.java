@@ -0,0 +1,25 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import com.travelerApp.demo.domain.audit.entity.AuthAuditEventType;
+
+import java.time.LocalDateTime;
+
+// 버퍼에 쌓이는 감사 이벤트 (발생 시각은 기록 요청 시점, 문자열은 컬럼 길이에 맞춤)
+public record AuditEvent(
+        AuthAuditEventType type,
+        Long userSeq,
+        String email,
+        String deviceId,
+        String detail,
+        LocalDateTime occurredAt
+) {
+
+    public static AuditEvent of(AuthAuditEventType type, Long userSeq, String email, String deviceId, String detail) {
+        return new AuditEvent(type, userSeq, truncate(email, 255), truncate(deviceId, 64), truncate(detail, 255),
+                LocalDateTime.now());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
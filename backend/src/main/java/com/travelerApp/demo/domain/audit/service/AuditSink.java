@@ -0,0 +1,10 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import java.io.IOException;
+import java.util.List;
+
+// 감사 이벤트 저장소 (AuthAuditRecorder의 기록 스레드 하나만 호출)
+public interface AuditSink {
+
+    void write(List<AuditEvent> events) throws IOException;
+}
@@ -0,0 +1,170 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 인증 감사 이벤트 비동기 기록 (요청 스레드는 고정 크기 버퍼에 넣기만 하고, 전용 스레드가 모아서 저장)
+@Slf4j
+@Component
+public class AuthAuditRecorder {
+
+    // 버퍼가 가득 찼을 때
+    public enum OverflowPolicy {
+        DROP_NEWEST,    // 새 이벤트 버림 (요청 지연 없음)
+        DROP_OLDEST,    // 가장 오래된 이벤트를 버리고 새 이벤트 보관
+        BLOCK           // block-timeout 까지 대기 후에도 가득 차 있으면 버림 (요청 지연 상한)
+    }
+
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(500); // 종료 신호 확인 주기
+
+    private final ArrayBlockingQueue<AuditEvent> buffer;
+    private final AuditSink sink;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    public AuthAuditRecorder(AuditSink sink,
+                             MeterRegistry meterRegistry,
+                             @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                             @Value("${audit.overflow-policy:drop-newest}") OverflowPolicy overflowPolicy,
+                             @Value("${audit.block-timeout:50ms}") Duration blockTimeout,
+                             @Value("${audit.batch-size:500}") int batchSize,
+                             @Value("${audit.linger:200ms}") Duration linger,
+                             @Value("${audit.shutdown-timeout:5s}") Duration shutdownTimeout,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.sink = sink;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.accepted = eventCounter(meterRegistry, "accepted");
+        this.dropped = eventCounter(meterRegistry, "dropped");
+        this.written = eventCounter(meterRegistry, "written");
+        this.failed = eventCounter(meterRegistry, "failed");
+        meterRegistry.gauge("audit.buffer.size", buffer, ArrayBlockingQueue::size);
+
+        Thread.Builder threadBuilder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        this.writer = threadBuilder.name("auth-audit-writer").start(this::drain);
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("audit.events")
+                .description("인증 감사 이벤트 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 이벤트 기록 요청 (DB·파일 쓰기 없음, 버려졌으면 false)
+    public boolean record(AuditEvent event) {
+        boolean queued = switch (overflowPolicy) {
+            case DROP_NEWEST -> buffer.offer(event);
+            case DROP_OLDEST -> offerDroppingOldest(event);
+            case BLOCK -> offerWaiting(event);
+        };
+
+        if (queued) {
+            accepted.increment();
+        } else {
+            dropped.increment();
+        }
+        return queued;
+    }
+
+    private boolean offerDroppingOldest(AuditEvent event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(AuditEvent event) {
+        try {
+            return buffer.offer(event, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 첫 이벤트 후 linger 동안 더 모아서 batch-size 단위로 저장 (종료 시 남은 이벤트까지 저장)
+    private void drain() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                buffer.drainTo(batch, batchSize - batch.size());
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void fill(List<AuditEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            AuditEvent next = buffer.poll(Math.min(remaining, IDLE_POLL_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    // 저장 실패한 배치는 재시도하지 않음 (실패 수는 audit.events{result=failed})
+    private void write(List<AuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.write(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("인증 감사 이벤트 {}건 저장 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    // 종료 시 버퍼에 남은 이벤트 저장 (shutdown-timeout 까지)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            log.warn("인증 감사 이벤트 {}건을 저장하지 못하고 종료합니다.", buffer.size());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// auth_audit_events 테이블에 배치 INSERT (기본)
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JdbcAuditSink implements AuditSink {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO auth_audit_events (event_type, user_seq, email, device_id, detail, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void write(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.type().name());
+            statement.setObject(2, event.userSeq());
+            statement.setString(3, event.email());
+            statement.setString(4, event.deviceId());
+            statement.setString(5, event.detail());
+            statement.setTimestamp(6, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+}
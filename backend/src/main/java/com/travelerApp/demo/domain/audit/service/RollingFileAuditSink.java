@@ -0,0 +1,100 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+// 일자별 JSON Lines 파일에 추가 (크기 초과 시 같은 날짜에 번호를 붙여 새 파일)
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "file")
+public class RollingFileAuditSink implements AuditSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long maxFileSize;
+    private final boolean fsync;
+
+    private FileChannel channel;
+    private LocalDate channelDate;
+    private int channelIndex;
+
+    public RollingFileAuditSink(ObjectMapper objectMapper,
+                                @Value("${audit.file.directory:./data/audit}") Path directory,
+                                @Value("${audit.file.max-size:100MB}") DataSize maxFileSize,
+                                @Value("${audit.file.fsync:false}") boolean fsync) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public void write(List<AuditEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 160);
+        for (AuditEvent event : events) {
+            lines.append(objectMapper.writeValueAsString(event)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        FileChannel target = channelFor(LocalDate.now(), buffer.remaining());
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        // fsync: 배치마다 디스크 반영 (끄면 OS 페이지 캐시에 맡김, 장애 시 마지막 몇 초 유실 가능)
+        if (fsync) {
+            target.force(false);
+        }
+    }
+
+    // 날짜가 바뀌었거나 크기 한도를 넘으면 다음 파일로
+    private FileChannel channelFor(LocalDate today, int pendingBytes) throws IOException {
+        if (channel != null && today.equals(channelDate) && channel.size() + pendingBytes <= maxFileSize) {
+            return channel;
+        }
+        close();
+        if (!today.equals(channelDate)) {
+            channelDate = today;
+            channelIndex = 0;
+        }
+        // 재기동 시 이미 한도를 채운 파일은 건너뜀
+        while (true) {
+            Path file = directory.resolve(fileName(today, channelIndex));
+            if (!Files.exists(file) || Files.size(file) + pendingBytes <= maxFileSize || Files.size(file) == 0) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                return channel;
+            }
+            channelIndex++;
+        }
+    }
+
+    private static String fileName(LocalDate date, int index) {
+        return index == 0 ? "auth-audit-" + date + ".jsonl" : "auth-audit-" + date + "." + index + ".jsonl";
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
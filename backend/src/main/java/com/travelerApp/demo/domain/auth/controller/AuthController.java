@@ -2,10 +2,13 @@ package com.travelerApp.demo.domain.auth.controller;
 
 import com.travelerApp.demo.domain.auth.dto.GoogleLoginRequest;
 import com.travelerApp.demo.domain.auth.dto.LoginRequest;
+import com.travelerApp.demo.domain.auth.dto.LogoutRequest;
 import com.travelerApp.demo.domain.auth.dto.RefreshTokenRequest;
 import com.travelerApp.demo.domain.auth.dto.SignupRequest;
 import com.travelerApp.demo.domain.auth.dto.TokenResponse;
 import com.travelerApp.demo.domain.auth.service.AuthService;
+import com.travelerApp.demo.domain.auth.service.RefreshCoalescer;
+import com.travelerApp.demo.global.security.jwt.JwtPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshCoalescer refreshCoalescer;
 
     // 회원가입
     @PostMapping("/signup")
@@ -43,22 +47,24 @@ public class AuthController {
     // 구글 로그인
     @PostMapping("/google")
     public ResponseEntity<TokenResponse> googleLogin(@Valid @RequestBody GoogleLoginRequest request) {
-        TokenResponse tokenResponse = authService.googleLogin(request.getIdToken());
+        TokenResponse tokenResponse = authService.googleLogin(request.getIdToken(), request.getDeviceId());
         return ResponseEntity.ok(tokenResponse);
     }
 
-    // 토큰 재발급
+    // 토큰 재발급 (동시 요청은 1회로 합침)
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
-        TokenResponse tokenResponse = authService.refresh(request.getRefreshToken());
+        TokenResponse tokenResponse = refreshCoalescer.refresh(request.getRefreshToken());
         return ResponseEntity.ok(tokenResponse);
     }
 
     // 로그아웃
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, String>> logout(Authentication authentication) {
+    public ResponseEntity<Map<String, String>> logout(Authentication authentication,
+                                                      @Valid @RequestBody(required = false) LogoutRequest request) {
         Long userSeq = (Long) authentication.getPrincipal();
-        authService.logout(userSeq);
+        JwtPrincipal accessToken = (JwtPrincipal) authentication.getDetails();
+        authService.logout(userSeq, request != null ? request.getDeviceId() : null, accessToken);
         return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
     }
 }
@@ -1,6 +1,7 @@
 package com.travelerApp.demo.domain.auth.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -10,4 +11,7 @@ public class GoogleLoginRequest {
 
     @NotBlank(message = "ID Token은 필수입니다.")
     private String idToken;
+
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다.")
+    private String deviceId; // 선택, 기기별 세션 구분
 }
@@ -2,6 +2,7 @@ package com.travelerApp.demo.domain.auth.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -15,4 +16,7 @@ public class LoginRequest {
 
     @NotBlank(message = "비밀번호는 필수입니다.")
     private String password;
+
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다.")
+    private String deviceId; // 선택, 기기별 세션 구분
 }
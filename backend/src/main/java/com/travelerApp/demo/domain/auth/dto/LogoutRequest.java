@@ -0,0 +1,13 @@
+package com.travelerApp.demo.domain.auth.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LogoutRequest {
+
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다.")
+    private String deviceId; // 없으면 모든 기기에서 로그아웃
+}
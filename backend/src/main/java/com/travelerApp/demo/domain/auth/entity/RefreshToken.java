@@ -1,16 +1,21 @@
 package com.travelerApp.demo.domain.auth.entity;
 
 import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_user_device", columnNames = {"user_seq", "device_id"}),
+        indexes = @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
@@ -23,8 +28,14 @@ public class RefreshToken {
     @JoinColumn(name = "user_seq", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // 토큰 원문 대신 SHA-256 다이제스트 저장 (BINARY(32) 고정폭 인덱스)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(nullable = false, unique = true, length = TokenHasher.HASH_LENGTH)
+    private byte[] tokenHash;
+
+    // 세션을 구분하는 기기 ID (사용자당 기기별 1개 세션)
+    @Column(nullable = false, length = 64)
+    private String deviceId;
 
     @Column(nullable = false)
     private LocalDateTime expiryDate;
@@ -32,15 +43,21 @@ public class RefreshToken {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 마지막 발급/재발급 일시 (세션 수 초과 시 가장 오래된 세션부터 제거)
+    @Column(nullable = false)
+    private LocalDateTime lastUsedAt;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.lastUsedAt = this.createdAt;
     }
 
     @Builder
-    public RefreshToken(User user, String token, LocalDateTime expiryDate) {
+    public RefreshToken(User user, String deviceId, String token, LocalDateTime expiryDate) {
         this.user = user;
-        this.token = token;
+        this.deviceId = deviceId;
+        this.tokenHash = TokenHasher.sha256(token);
         this.expiryDate = expiryDate;
     }
 
@@ -51,7 +68,8 @@ public class RefreshToken {
 
     // 토큰 갱신
     public void updateToken(String token, LocalDateTime expiryDate) {
-        this.token = token;
+        this.tokenHash = TokenHasher.sha256(token);
         this.expiryDate = expiryDate;
+        this.lastUsedAt = LocalDateTime.now();
     }
 }
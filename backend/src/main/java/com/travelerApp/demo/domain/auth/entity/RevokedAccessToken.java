@@ -0,0 +1,33 @@
+package com.travelerApp.demo.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_access_tokens",
+        indexes = @Index(name = "idx_revoked_access_tokens_expiry_date", columnList = "expiry_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti; // Access Token ID
+
+    @Column(nullable = false)
+    private LocalDateTime expiryDate; // 원래 토큰 만료 일시 (이후 삭제 가능)
+
+    @Builder
+    public RevokedAccessToken(String jti, LocalDateTime expiryDate) {
+        this.jti = jti;
+        this.expiryDate = expiryDate;
+    }
+}
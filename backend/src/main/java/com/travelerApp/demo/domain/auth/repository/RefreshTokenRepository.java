@@ -2,29 +2,72 @@ package com.travelerApp.demo.domain.auth.repository;
 
 import com.travelerApp.demo.domain.auth.entity.RefreshToken;
 import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
+    // 토큰 다이제스트로 조회
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // 토큰 다이제스트로 세션 존재 여부 확인
+    boolean existsByTokenHash(byte[] tokenHash);
+
     // 토큰 값으로 조회
-    Optional<RefreshToken> findByToken(String token);
+    default Optional<RefreshToken> findByToken(String token) {
+        return findByTokenHash(TokenHasher.sha256(token));
+    }
+
+    // 사용자의 세션 목록 (최근 사용 순)
+    List<RefreshToken> findByUserOrderByLastUsedAtDesc(User user);
+
+    // 토큰 교체 (유효한 토큰이고 활성 사용자일 때만, 갱신된 행 수 반환)
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.tokenHash = :newTokenHash, rt.expiryDate = :expiryDate, rt.lastUsedAt = :now " +
+            "WHERE rt.tokenHash = :oldTokenHash AND rt.expiryDate > :now " +
+            "AND rt.user.seq IN (SELECT u.seq FROM User u WHERE u.isActive = true)")
+    int rotate(@Param("oldTokenHash") byte[] oldTokenHash,
+               @Param("newTokenHash") byte[] newTokenHash,
+               @Param("expiryDate") LocalDateTime expiryDate,
+               @Param("now") LocalDateTime now);
 
-    // 사용자로 조회
-    Optional<RefreshToken> findByUser(User user);
+    // 기기 세션의 토큰 교체 (로그인 시, 갱신된 행 수 반환)
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.tokenHash = :tokenHash, rt.expiryDate = :expiryDate, rt.lastUsedAt = :now " +
+            "WHERE rt.user.seq = :userSeq AND rt.deviceId = :deviceId")
+    int rotateByDevice(@Param("userSeq") Long userSeq,
+                       @Param("deviceId") String deviceId,
+                       @Param("tokenHash") byte[] tokenHash,
+                       @Param("expiryDate") LocalDateTime expiryDate,
+                       @Param("now") LocalDateTime now);
 
     // 사용자 seq로 삭제 (로그아웃 시)
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.user.seq = :userSeq")
     void deleteByUserSeq(@Param("userSeq") Long userSeq);
 
-    // 만료된 토큰 삭제
+    // 특정 기기 세션 삭제 (해당 기기만 로그아웃)
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.seq = :userSeq AND rt.deviceId = :deviceId")
+    void deleteByUserSeqAndDeviceId(@Param("userSeq") Long userSeq, @Param("deviceId") String deviceId);
+
+    // 만료된 토큰 seq 조회 (배치 크기만큼)
+    @Query("SELECT rt.seq FROM RefreshToken rt WHERE rt.expiryDate < :now ORDER BY rt.expiryDate")
+    List<Long> findExpiredSeqs(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료된 토큰 수
+    long countByExpiryDateBefore(LocalDateTime now);
+
+    // seq 목록으로 삭제 (만료 토큰 배치 삭제)
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.seq IN :seqs")
+    int deleteBySeqIn(@Param("seqs") List<Long> seqs);
 }
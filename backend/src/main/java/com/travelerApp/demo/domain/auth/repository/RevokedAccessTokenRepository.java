@@ -0,0 +1,25 @@
+package com.travelerApp.demo.domain.auth.repository;
+
+import com.travelerApp.demo.domain.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    // 폐기 여부 확인
+    boolean existsByJti(String jti);
+
+    // 아직 만료되지 않은 폐기 토큰 ID (기동 시 필터 복원용)
+    @Query("SELECT rat.jti FROM RevokedAccessToken rat WHERE rat.expiryDate > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    // 만료된 폐기 기록 삭제
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken rat WHERE rat.expiryDate < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
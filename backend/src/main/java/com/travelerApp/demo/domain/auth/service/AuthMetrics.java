@@ -0,0 +1,101 @@
+package com.travelerApp.demo.domain.auth.service;
+
+import com.travelerApp.demo.global.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 인증 처리 시간 (전체: auth.operation{operation, outcome}, 단계별: auth.phase{operation, phase})
+// SLO 버킷은 application.yml management.metrics.distribution.slo 에서 설정
+@Component
+public class AuthMetrics {
+
+    public enum Operation {
+        SIGNUP, LOGIN, REFRESH, GOOGLE_LOGIN;
+
+        private final String tag = name().toLowerCase();
+    }
+
+    public enum Phase {
+        PASSWORD_HASH,  // BCrypt 해싱·검증 (대기열 대기 포함)
+        REPOSITORY,     // DB 조회·변경
+        TOKEN_MINT,     // JWT 생성·서명
+        ID_TOKEN_VERIFY; // Google ID Token 서명 검증
+
+        private final String tag = name().toLowerCase();
+    }
+
+    private enum Outcome {
+        SUCCESS,   // 정상 처리
+        REJECTED,  // 잘못된 요청·자격 증명 (400)
+        BUSY,      // 해싱 대기열 초과 (503)
+        ERROR;     // 그 외 예외
+
+        private final String tag = name().toLowerCase();
+
+        static Outcome of(RuntimeException e) {
+            if (e instanceof ServiceBusyException) {
+                return BUSY;
+            }
+            return e instanceof IllegalArgumentException ? REJECTED : ERROR;
+        }
+    }
+
+    // 요청마다 태그로 조회하지 않도록 미리 등록
+    private final Map<Operation, Map<Outcome, Timer>> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Phase, Timer>> phaseTimers = new EnumMap<>(Operation.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (Operation operation : Operation.values()) {
+            Map<Outcome, Timer> outcomes = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, Timer.builder("auth.operation")
+                        .description("인증 요청 처리 시간 (트랜잭션 커밋 제외)")
+                        .tag("operation", operation.tag)
+                        .tag("outcome", outcome.tag)
+                        .register(meterRegistry));
+            }
+            operationTimers.put(operation, outcomes);
+
+            Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, Timer.builder("auth.phase")
+                        .description("인증 요청의 단계별 처리 시간")
+                        .tag("operation", operation.tag)
+                        .tag("phase", phase.tag)
+                        .register(meterRegistry));
+            }
+            phaseTimers.put(operation, phases);
+        }
+    }
+
+    // 요청 전체 (예외 종류별로 결과 구분)
+    public <T> T operation(Operation operation, Supplier<T> work) {
+        long startedAt = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            T result = work.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = Outcome.of(e);
+            throw e;
+        } finally {
+            operationTimers.get(operation).get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 요청 안의 한 단계 (실패해도 소요 시간 기록)
+    public <T> T phase(Operation operation, Phase phase, Supplier<T> work) {
+        return phaseTimers.get(operation).get(phase).record(work);
+    }
+
+    public void run(Operation operation, Phase phase, Runnable work) {
+        phaseTimers.get(operation).get(phase).record(work);
+    }
+}
@@ -1,67 +1,112 @@
 package com.travelerApp.demo.domain.auth.service;
 
+import com.travelerApp.demo.domain.audit.entity.AuthAuditEventType;
+import com.travelerApp.demo.domain.audit.service.AuditEvent;
+import com.travelerApp.demo.domain.audit.service.AuthAuditRecorder;
 import com.travelerApp.demo.domain.auth.dto.LoginRequest;
 import com.travelerApp.demo.domain.auth.dto.SignupRequest;
 import com.travelerApp.demo.domain.auth.dto.TokenResponse;
 import com.travelerApp.demo.domain.auth.entity.RefreshToken;
 import com.travelerApp.demo.domain.auth.repository.RefreshTokenRepository;
+import com.travelerApp.demo.domain.auth.service.AuthMetrics.Operation;
+import com.travelerApp.demo.domain.auth.service.AuthMetrics.Phase;
 import com.travelerApp.demo.domain.user.entity.AuthProvider;
 import com.travelerApp.demo.domain.user.entity.User;
 import com.travelerApp.demo.domain.user.repository.UserRepository;
+import com.travelerApp.demo.domain.user.service.LastLoginRecorder;
+import com.travelerApp.demo.global.security.jwt.AccessTokenDenylist;
+import com.travelerApp.demo.global.security.jwt.JwtPrincipal;
 import com.travelerApp.demo.global.security.jwt.JwtTokenProvider;
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
 import com.travelerApp.demo.global.security.oauth.GoogleTokenVerifier;
 import com.travelerApp.demo.global.security.oauth.GoogleUserInfo;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final String DEFAULT_DEVICE_ID = "default";
+
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final GoogleTokenVerifier googleTokenVerifier;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final AuthAuditRecorder authAuditRecorder;
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
 
+    @Value("${jwt.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @PostConstruct
+    protected void init() {
+        if (maxSessionsPerUser < 1) {
+            throw new IllegalStateException("jwt.max-sessions-per-user 는 1 이상이어야 합니다: " + maxSessionsPerUser);
+        }
+    }
+
     // 회원가입
     @Transactional
     public Long signup(SignupRequest request) {
+        return authMetrics.operation(Operation.SIGNUP, () -> doSignup(request));
+    }
+
+    private Long doSignup(SignupRequest request) {
         // 이메일 중복 확인
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (authMetrics.phase(Operation.SIGNUP, Phase.REPOSITORY, () -> userRepository.existsByEmail(request.getEmail()))) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
         // 사용자 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(authMetrics.phase(Operation.SIGNUP, Phase.PASSWORD_HASH,
+                        () -> passwordEncoder.encode(request.getPassword())))
                 .nickname(request.getNickname())
                 .provider(AuthProvider.LOCAL)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = authMetrics.phase(Operation.SIGNUP, Phase.REPOSITORY, () -> userRepository.save(user));
         return savedUser.getSeq();
     }
 
     // 로그인
     @Transactional
     public TokenResponse login(LoginRequest request) {
+        try {
+            return authMetrics.operation(Operation.LOGIN, () -> doLogin(request));
+        } catch (IllegalArgumentException e) {
+            audit(AuthAuditEventType.LOGIN_FAILED, null, request.getEmail(), request.getDeviceId(), e.getMessage());
+            throw e;
+        }
+    }
+
+    private TokenResponse doLogin(LoginRequest request) {
         // 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = authMetrics.phase(Operation.LOGIN, Phase.REPOSITORY, () -> userRepository.findByEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다."));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!authMetrics.phase(Operation.LOGIN, Phase.PASSWORD_HASH,
+                () -> passwordEncoder.matches(request.getPassword(), user.getPassword()))) {
             throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다.");
         }
 
@@ -70,61 +115,133 @@ public class AuthService {
             throw new IllegalArgumentException("비활성화된 계정입니다.");
         }
 
-        // 마지막 로그인 시간 갱신
-        user.updateLastLoginAt();
+        // 목표 cost보다 낮은 해시는 로그인 성공 시 재해싱
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(authMetrics.phase(Operation.LOGIN, Phase.PASSWORD_HASH,
+                    () -> passwordEncoder.encode(request.getPassword())));
+        }
+
+        // 마지막 로그인 시간 갱신 (주기적으로 일괄 반영)
+        lastLoginRecorder.record(user.getSeq());
 
         // 토큰 발급
-        return createTokens(user);
+        TokenResponse tokens = createTokens(Operation.LOGIN, user, request.getDeviceId());
+        auditAfterCommit(AuthAuditEventType.LOGIN, user.getSeq(), user.getEmail(), request.getDeviceId(), null);
+        return tokens;
     }
 
-    // Access Token 재발급
+    // Access Token 재발급 (정상 경로는 조건부 UPDATE 1회)
     @Transactional
     public TokenResponse refresh(String refreshTokenValue) {
+        try {
+            return authMetrics.operation(Operation.REFRESH, () -> doRefresh(refreshTokenValue));
+        } catch (IllegalArgumentException e) {
+            audit(AuthAuditEventType.REFRESH_FAILED, null, null, null, e.getMessage());
+            throw e;
+        }
+    }
+
+    private TokenResponse doRefresh(String refreshTokenValue) {
         // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshTokenValue)) {
+        JwtPrincipal principal = jwtTokenProvider.verify(refreshTokenValue);
+        if (principal == null) {
             throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
         }
 
+        // email 클레임이 없는 이전 형식 토큰은 사용자 정보에서 보충
+        String email = principal.getEmail() != null ? principal.getEmail()
+                : authMetrics.phase(Operation.REFRESH, Phase.REPOSITORY, () -> userRepository.findById(principal.getUserSeq())
+                        .map(User::getEmail)
+                        .orElse(null));
+
+        String accessToken = authMetrics.phase(Operation.REFRESH, Phase.TOKEN_MINT,
+                () -> jwtTokenProvider.createAccessToken(principal.getUserSeq(), email));
+        String newRefreshTokenValue = authMetrics.phase(Operation.REFRESH, Phase.TOKEN_MINT,
+                () -> jwtTokenProvider.createRefreshToken(principal.getUserSeq(), email));
+        byte[] previousHash = TokenHasher.sha256(refreshTokenValue);
+        byte[] newHash = TokenHasher.sha256(newRefreshTokenValue);
+
+        // 저장된 토큰이 유효하고 계정이 활성 상태일 때만 교체
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = authMetrics.phase(Operation.REFRESH, Phase.REPOSITORY, () -> refreshTokenRepository.rotate(
+                previousHash,
+                newHash,
+                refreshTokenExpiryDate(now),
+                now
+        ));
+
+        if (rotated == 0) {
+            throw authMetrics.phase(Operation.REFRESH, Phase.REPOSITORY, () -> rotationFailure(refreshTokenValue));
+        }
+
+        auditAfterCommit(AuthAuditEventType.REFRESH, principal.getUserSeq(), email, null, null);
+
+        return TokenResponse.of(accessToken, newRefreshTokenValue, accessTokenExpiration / 1000);
+    }
+
+    // 발급된 Refresh Token의 세션이 남아 있는지 확인 (로그아웃되면 false)
+    public boolean hasSession(String refreshTokenValue) {
+        return refreshTokenRepository.existsByTokenHash(TokenHasher.sha256(refreshTokenValue));
+    }
+
+    // 교체 실패 사유 확인 (실패 경로에서만 조회)
+    private IllegalArgumentException rotationFailure(String refreshTokenValue) {
         // DB에서 Refresh Token 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 리프레시 토큰입니다."));
+        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue).orElse(null);
+        if (refreshToken == null) {
+            return new IllegalArgumentException("존재하지 않는 리프레시 토큰입니다.");
+        }
 
         // 만료 여부 확인
         if (refreshToken.isExpired()) {
             refreshTokenRepository.delete(refreshToken);
-            throw new IllegalArgumentException("만료된 리프레시 토큰입니다.");
+            return new IllegalArgumentException("만료된 리프레시 토큰입니다.");
         }
 
-        User user = refreshToken.getUser();
+        return new IllegalArgumentException("비활성화된 계정입니다.");
+    }
 
-        // 계정 활성화 상태 확인
-        if (!user.getIsActive()) {
-            throw new IllegalArgumentException("비활성화된 계정입니다.");
+    // 로그아웃 (사용 중인 Access Token은 즉시 폐기, 기기 ID가 없으면 모든 기기의 세션과 Access Token 폐기)
+    @Transactional
+    public void logout(Long userSeq, String deviceId, JwtPrincipal accessToken) {
+        if (StringUtils.hasText(deviceId)) {
+            refreshTokenRepository.deleteByUserSeqAndDeviceId(userSeq, deviceId);
+        } else {
+            refreshTokenRepository.deleteByUserSeq(userSeq);
+            accessTokenDenylist.revokeAll(userSeq);
         }
 
-        // 새 토큰 발급
-        return createTokens(user);
-    }
+        if (accessToken != null) {
+            accessTokenDenylist.revoke(accessToken.getTokenId(), accessToken.getExpiresAt());
+        }
 
-    // 로그아웃
-    @Transactional
-    public void logout(Long userSeq) {
-        refreshTokenRepository.deleteByUserSeq(userSeq);
+        auditAfterCommit(AuthAuditEventType.LOGOUT, userSeq, null, deviceId, StringUtils.hasText(deviceId) ? null : "모든 기기");
     }
 
     // 구글 로그인
     @Transactional
-    public TokenResponse googleLogin(String idToken) {
+    public TokenResponse googleLogin(String idToken, String deviceId) {
+        try {
+            return authMetrics.operation(Operation.GOOGLE_LOGIN, () -> doGoogleLogin(idToken, deviceId));
+        } catch (IllegalArgumentException e) {
+            audit(AuthAuditEventType.GOOGLE_LOGIN_FAILED, null, null, deviceId, e.getMessage());
+            throw e;
+        }
+    }
+
+    private TokenResponse doGoogleLogin(String idToken, String deviceId) {
         // Google ID Token 검증
-        GoogleUserInfo googleUserInfo = googleTokenVerifier.verify(idToken);
+        GoogleUserInfo googleUserInfo = authMetrics.phase(Operation.GOOGLE_LOGIN, Phase.ID_TOKEN_VERIFY,
+                () -> googleTokenVerifier.verify(idToken));
 
         if (googleUserInfo == null) {
             throw new IllegalArgumentException("유효하지 않은 Google 토큰입니다.");
         }
 
         // 기존 사용자 조회 또는 신규 가입
-        User user = userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, googleUserInfo.getProviderId())
-                .orElseGet(() -> {
+        User user = authMetrics.phase(Operation.GOOGLE_LOGIN, Phase.REPOSITORY,
+                () -> userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, googleUserInfo.getProviderId()))
+                .orElseGet(() -> authMetrics.phase(Operation.GOOGLE_LOGIN, Phase.REPOSITORY, () -> {
                     // 이메일로 기존 LOCAL 계정 확인
                     if (userRepository.existsByEmail(googleUserInfo.getEmail())) {
                         throw new IllegalArgumentException("이미 일반 회원가입으로 가입된 이메일입니다.");
@@ -139,41 +256,101 @@ public class AuthService {
                             .build();
 
                     return userRepository.save(newUser);
-                });
+                }));
 
         // 계정 활성화 상태 확인
         if (!user.getIsActive()) {
             throw new IllegalArgumentException("비활성화된 계정입니다.");
         }
 
-        // 마지막 로그인 시간 갱신
-        user.updateLastLoginAt();
+        // 마지막 로그인 시간 갱신 (주기적으로 일괄 반영)
+        lastLoginRecorder.record(user.getSeq());
 
         // 토큰 발급
-        return createTokens(user);
+        TokenResponse tokens = createTokens(Operation.GOOGLE_LOGIN, user, deviceId);
+        auditAfterCommit(AuthAuditEventType.GOOGLE_LOGIN, user.getSeq(), user.getEmail(), deviceId, null);
+        return tokens;
     }
 
-    // 토큰 생성 및 저장
-    private TokenResponse createTokens(User user) {
-        String accessToken = jwtTokenProvider.createAccessToken(user.getSeq(), user.getEmail());
-        String refreshTokenValue = jwtTokenProvider.createRefreshToken(user.getSeq());
+    // 토큰 생성 및 저장 (기기별 세션이 있으면 교체, 없으면 생성)
+    private TokenResponse createTokens(Operation operation, User user, String deviceId) {
+        String sessionDeviceId = StringUtils.hasText(deviceId) ? deviceId : DEFAULT_DEVICE_ID;
+        String accessToken = authMetrics.phase(operation, Phase.TOKEN_MINT,
+                () -> jwtTokenProvider.createAccessToken(user.getSeq(), user.getEmail()));
+        String refreshTokenValue = authMetrics.phase(operation, Phase.TOKEN_MINT,
+                () -> jwtTokenProvider.createRefreshToken(user.getSeq(), user.getEmail()));
+        byte[] refreshTokenHash = TokenHasher.sha256(refreshTokenValue);
+
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = authMetrics.phase(operation, Phase.REPOSITORY, () -> refreshTokenRepository.rotateByDevice(
+                user.getSeq(),
+                sessionDeviceId,
+                refreshTokenHash,
+                refreshTokenExpiryDate(now),
+                now
+        ));
+
+        if (rotated == 0) {
+            authMetrics.run(operation, Phase.REPOSITORY, () -> createSession(user, sessionDeviceId, refreshTokenValue, refreshTokenHash, now));
+        }
+
+        return TokenResponse.of(
+                accessToken,
+                refreshTokenValue,
+                accessTokenExpiration / 1000 // 초 단위로 변환
+        );
+    }
+
+    // 새 기기 세션 생성 (사용자 행을 잠가 같은 기기의 동시 첫 로그인이 중복 INSERT 하지 않도록 직렬화)
+    private void createSession(User user, String deviceId, String refreshTokenValue, byte[] refreshTokenHash, LocalDateTime now) {
+        userRepository.findForUpdateBySeq(user.getSeq());
+
+        // 잠금을 기다리는 동안 다른 요청이 같은 기기 세션을 만들었으면 그 세션을 교체
+        if (refreshTokenRepository.rotateByDevice(user.getSeq(), deviceId, refreshTokenHash, refreshTokenExpiryDate(now), now) > 0) {
+            return;
+        }
 
-        // 기존 Refresh Token 삭제 후 새로 저장
-        refreshTokenRepository.findByUser(user)
-                .ifPresent(refreshTokenRepository::delete);
+        evictOldestSessions(user);
 
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
+                .deviceId(deviceId)
                 .token(refreshTokenValue)
-                .expiryDate(LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000))
+                .expiryDate(refreshTokenExpiryDate(now))
                 .build();
 
         refreshTokenRepository.save(refreshToken);
+    }
 
-        return TokenResponse.of(
-                accessToken,
-                refreshTokenValue,
-                accessTokenExpiration / 1000 // 초 단위로 변환
-        );
+    // 세션 수 제한 초과 시 가장 오래 사용되지 않은 세션부터 삭제 (새 세션 자리 확보)
+    private void evictOldestSessions(User user) {
+        List<RefreshToken> sessions = refreshTokenRepository.findByUserOrderByLastUsedAtDesc(user);
+        if (sessions.size() >= maxSessionsPerUser) {
+            refreshTokenRepository.deleteAll(sessions.subList(maxSessionsPerUser - 1, sessions.size()));
+        }
+    }
+
+    // 감사 기록은 버퍼에 넣기만 함 (저장은 AuthAuditRecorder 전용 스레드, 실패 이벤트는 롤백과 무관하게 즉시 기록)
+    private void audit(AuthAuditEventType type, Long userSeq, String email, String deviceId, String detail) {
+        authAuditRecorder.record(AuditEvent.of(type, userSeq, email, deviceId, detail));
+    }
+
+    // 성공 이벤트는 커밋 후 기록 (커밋이 실패하면 성공으로 남지 않도록)
+    private void auditAfterCommit(AuthAuditEventType type, Long userSeq, String email, String deviceId, String detail) {
+        AuditEvent event = AuditEvent.of(type, userSeq, email, deviceId, detail);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authAuditRecorder.record(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authAuditRecorder.record(event);
+            }
+        });
+    }
+
+    private LocalDateTime refreshTokenExpiryDate(LocalDateTime now) {
+        return now.plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000);
     }
 }
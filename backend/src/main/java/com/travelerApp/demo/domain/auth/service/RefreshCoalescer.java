@@ -0,0 +1,75 @@
+package com.travelerApp.demo.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelerApp.demo.domain.auth.dto.TokenResponse;
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 같은 Refresh Token의 동시 재발급 요청을 1회로 합침
+// 먼저 들어온 요청만 토큰을 교체하고, 나머지와 유예 시간 내 재요청은 같은 결과를 받음 (세션이 남아 있을 때만)
+@Component
+public class RefreshCoalescer {
+
+    private final AuthService authService;
+
+    // 토큰 다이제스트 → 재발급 결과 (유예 시간 동안 보관)
+    private final Cache<String, CompletableFuture<TokenResponse>> results;
+
+    public RefreshCoalescer(AuthService authService,
+                            @Value("${jwt.refresh-grace-period:10000}") long gracePeriod) {
+        this.authService = authService;
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(gracePeriod))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // Access Token 재발급
+    public TokenResponse refresh(String refreshTokenValue) {
+        String key = Base64.getEncoder().withoutPadding().encodeToString(TokenHasher.sha256(refreshTokenValue));
+
+        CompletableFuture<TokenResponse> created = new CompletableFuture<>();
+        CompletableFuture<TokenResponse> existing = results.asMap().putIfAbsent(key, created);
+
+        if (existing != null) {
+            return awaitShared(key, existing);
+        }
+
+        try {
+            created.complete(authService.refresh(refreshTokenValue));
+        } catch (RuntimeException e) {
+            // 실패는 대기 중인 요청에만 전달하고 보관하지 않음
+            results.invalidate(key);
+            created.completeExceptionally(e);
+        }
+        return await(created);
+    }
+
+    // 함께 받은 결과는 그 사이 로그아웃으로 세션이 삭제되지 않았을 때만 반환
+    private TokenResponse awaitShared(String key, CompletableFuture<TokenResponse> shared) {
+        TokenResponse result = await(shared);
+        if (!authService.hasSession(result.getRefreshToken())) {
+            results.asMap().remove(key, shared);
+            throw new IllegalArgumentException("존재하지 않는 리프레시 토큰입니다.");
+        }
+        return result;
+    }
+
+    private TokenResponse await(CompletableFuture<TokenResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
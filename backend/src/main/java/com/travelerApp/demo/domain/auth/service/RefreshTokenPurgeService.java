@@ -0,0 +1,79 @@
+package com.travelerApp.demo.domain.auth.service;
+
+import com.travelerApp.demo.domain.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 만료된 Refresh Token 주기 삭제 (배치마다 짧은 트랜잭션으로 나눠 로그인과의 락 경합 방지)
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter purgedRows;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${jwt.refresh-token-purge.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalStateException("jwt.refresh-token-purge.batch-size 는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.purgedRows = Counter.builder("refresh_token.purge.rows")
+                .description("삭제된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("refresh_token.purge.batch")
+                .description("만료 토큰 배치 삭제 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("refresh_token.purge.backlog", backlog);
+    }
+
+    // 만료 토큰이 남지 않을 때까지 배치 단위로 삭제
+    @Scheduled(cron = "${jwt.refresh-token-purge.cron:0 */10 * * * *}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        backlog.set(refreshTokenRepository.countByExpiryDateBefore(now));
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = batchTimer.record(() -> purgeBatch(now));
+            total += deleted;
+            purgedRows.increment(deleted);
+            backlog.set(Math.max(0, backlog.get() - deleted));
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 Refresh Token {}건 삭제", total);
+        }
+    }
+
+    // 배치 1회 (조회 + 삭제를 하나의 짧은 트랜잭션으로)
+    private int purgeBatch(LocalDateTime now) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> seqs = refreshTokenRepository.findExpiredSeqs(now, PageRequest.of(0, batchSize));
+            return seqs.isEmpty() ? 0 : refreshTokenRepository.deleteBySeqIn(seqs);
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.travelerApp.demo.domain.city.controller;
+
+import com.travelerApp.demo.domain.city.dto.CityRequest;
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.city.dto.CitySearchResponse;
+import com.travelerApp.demo.domain.city.service.CitySearchService;
+import com.travelerApp.demo.domain.city.service.CityService;
+import com.travelerApp.demo.domain.weather.dto.CityWeatherResponse;
+import com.travelerApp.demo.domain.weather.service.CityWeatherService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/cities")
+@RequiredArgsConstructor
+public class CityController {
+
+    private final CityService cityService;
+    private final CityWeatherService cityWeatherService;
+    private final CitySearchService citySearchService;
+
+    // 저장된 도시 목록
+    @GetMapping
+    public ResponseEntity<List<CityResponse>> getCities(Authentication authentication) {
+        return ResponseEntity.ok(cityService.getCities((Long) authentication.getPrincipal()));
+    }
+
+    // 저장된 도시 전체의 현재 날씨 (마감 시간 내 응답한 도시만 채움)
+    @GetMapping("/weather")
+    public CompletableFuture<ResponseEntity<List<CityWeatherResponse>>> getCityWeather(Authentication authentication) {
+        return cityWeatherService.getCityWeather((Long) authentication.getPrincipal()).thenApply(ResponseEntity::ok);
+    }
+
+    // 도시 이름 자동완성 (한글·영문)
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<List<CitySearchResponse>>> search(
+            @RequestParam("q") @NotBlank @Size(max = 100) String query,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(20) int limit) {
+        return citySearchService.search(query, limit).thenApply(ResponseEntity::ok);
+    }
+
+    // 도시 저장
+    @PostMapping
+    public ResponseEntity<CityResponse> create(Authentication authentication,
+                                               @Valid @RequestBody CityRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(cityService.create((Long) authentication.getPrincipal(), request));
+    }
+
+    // 도시 삭제
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication authentication, @PathVariable("id") Long id) {
+        cityService.delete((Long) authentication.getPrincipal(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
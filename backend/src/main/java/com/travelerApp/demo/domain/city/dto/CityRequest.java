@@ -0,0 +1,34 @@
+package com.travelerApp.demo.domain.city.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CityRequest {
+
+    @NotBlank(message = "도시명은 필수입니다.")
+    @Size(max = 255, message = "도시명은 255자 이하여야 합니다.")
+    private String name;
+
+    @NotBlank(message = "국가명은 필수입니다.")
+    @Size(max = 255, message = "국가명은 255자 이하여야 합니다.")
+    private String country;
+
+    @NotNull(message = "위도는 필수입니다.")
+    @DecimalMin(value = "-90", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @NotNull(message = "경도는 필수입니다.")
+    @DecimalMin(value = "-180", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
+}
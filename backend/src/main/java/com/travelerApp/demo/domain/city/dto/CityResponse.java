@@ -0,0 +1,30 @@
+package com.travelerApp.demo.domain.city.dto;
+
+import com.travelerApp.demo.domain.city.entity.City;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CityResponse {
+
+    private Long seq;
+    private String name;
+    private String country;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+
+    public static CityResponse from(City city) {
+        return CityResponse.builder()
+                .seq(city.getSeq())
+                .name(city.getName())
+                .country(city.getCountry())
+                .latitude(city.getLatitude())
+                .longitude(city.getLongitude())
+                .createdAt(city.getCreatedAt())
+                .build();
+    }
+}
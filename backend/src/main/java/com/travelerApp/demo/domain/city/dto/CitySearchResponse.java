@@ -0,0 +1,28 @@
+package com.travelerApp.demo.domain.city.dto;
+
+import com.travelerApp.demo.domain.city.search.GazetteerCity;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CitySearchResponse {
+
+    private String name;
+    private String koreanName;
+    private String countryCode;
+    private String country;
+    private Double latitude;
+    private Double longitude;
+
+    public static CitySearchResponse from(GazetteerCity city) {
+        return CitySearchResponse.builder()
+                .name(city.name())
+                .koreanName(city.koreanName())
+                .countryCode(city.countryCode())
+                .country(city.country())
+                .latitude(city.latitude())
+                .longitude(city.longitude())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.travelerApp.demo.domain.city.entity;
+
+import com.travelerApp.demo.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cities",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_city", columnNames = {"user_seq", "name", "country"}),
+        indexes = @Index(name = "idx_cities_user_version", columnList = "user_seq, version"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class City {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_seq", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String country;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(nullable = false)
+    private Long version; // 동기화 버전
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public City(User user, String name, String country, Double latitude, Double longitude, Long version) {
+        this.user = user;
+        this.name = name;
+        this.country = country;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.version = version;
+    }
+}
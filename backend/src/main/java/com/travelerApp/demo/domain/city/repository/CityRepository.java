@@ -0,0 +1,23 @@
+package com.travelerApp.demo.domain.city.repository;
+
+import com.travelerApp.demo.domain.city.entity.City;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CityRepository extends JpaRepository<City, Long> {
+
+    List<City> findByUserSeqOrderBySeqAsc(Long userSeq);
+
+    boolean existsByUserSeqAndNameAndCountry(Long userSeq, String name, String country);
+
+    @Query("SELECT c FROM City c WHERE c.seq = :seq AND c.user.seq = :userSeq")
+    Optional<City> findBySeqAndUserSeq(@Param("seq") Long seq, @Param("userSeq") Long userSeq);
+
+    // 커서 이후 변경분 (idx_cities_user_version)
+    List<City> findByUserSeqAndVersionGreaterThanOrderByVersionAsc(Long userSeq, Long version, Pageable pageable);
+}
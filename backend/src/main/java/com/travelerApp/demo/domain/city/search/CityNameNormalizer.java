@@ -0,0 +1,61 @@
+package com.travelerApp.demo.domain.city.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 검색 키 정규화
+// 라틴 문자는 소문자 + 발음 기호 제거, 공백·기호는 제거 ("São Paulo" → "saopaulo")
+// 한글 음절은 자모로 풀어 입력 중인 글자도 맞도록 함 ("서" → "ㅅㅓ", "성" 입력 중에도 "서울" 일치)
+public final class CityNameNormalizer {
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 이중 모음은 입력 순서대로 분해 ("ㅘ" → "ㅗㅏ")
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    // 겹받침도 분해 ("ㄺ" → "ㄹㄱ")
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private CityNameNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        StringBuilder key = new StringBuilder(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                int index = c - HANGUL_FIRST;
+                key.append(INITIALS[index / 588])
+                        .append(MEDIALS[(index % 588) / 28])
+                        .append(FINALS[index % 28]);
+            } else if (c < 0x80) {
+                if (Character.isLetterOrDigit(c)) {
+                    key.append(Character.toLowerCase(c));
+                }
+            } else {
+                appendNonAscii(key, c);
+            }
+        }
+        return key.toString();
+    }
+
+    // 발음 기호를 떼어낸 글자만 남김
+    private static void appendNonAscii(StringBuilder key, char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            char part = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(part)) {
+                key.append(String.valueOf(part).toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+}
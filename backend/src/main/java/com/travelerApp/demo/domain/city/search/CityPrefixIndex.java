@@ -0,0 +1,146 @@
+package com.travelerApp.demo.domain.city.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 정규화한 이름의 접두어 트라이
+// 노드마다 인구 순 상위 도시를 미리 담아 두어 조회는 입력 길이만큼 내려가기만 하면 됨
+// 생성 후에는 노드·간선·상위 목록을 평평한 int/char 배열로만 보관 (불변)
+final class CityPrefixIndex {
+
+    private final List<GazetteerCity> cities;
+
+    // 노드 i 의 자식 간선: edgeLabels/edgeTargets[childStart[i] .. childStart[i + 1]) (문자 오름차순)
+    private final int[] childStart;
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+
+    // 노드 i 의 상위 도시: topCities[topStart[i] .. topStart[i + 1]) (인구 내림차순)
+    private final int[] topStart;
+    private final int[] topCities;
+
+    private CityPrefixIndex(List<GazetteerCity> cities, int[] childStart, char[] edgeLabels, int[] edgeTargets,
+                            int[] topStart, int[] topCities) {
+        this.cities = cities;
+        this.childStart = childStart;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.topStart = topStart;
+        this.topCities = topCities;
+    }
+
+    // names: 도시별 검색 이름 목록 (cities 와 같은 순서)
+    static CityPrefixIndex build(List<GazetteerCity> cities, List<List<String>> names, int maxResults) {
+        Integer[] byPopulation = new Integer[cities.size()];
+        Arrays.setAll(byPopulation, i -> i);
+        Arrays.sort(byPopulation, Comparator.comparingLong((Integer i) -> cities.get(i).population()).reversed());
+
+        BuildNode root = new BuildNode();
+        for (int city : byPopulation) {
+            for (String name : names.get(city)) {
+                String key = CityNameNormalizer.normalize(name);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                BuildNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+                    node.offer(city, maxResults);
+                }
+            }
+        }
+        return freeze(List.copyOf(cities), root);
+    }
+
+    // 접두어에 맞는 도시 (인구 순, 최대 limit 건)
+    List<GazetteerCity> search(String normalizedPrefix, int limit) {
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        int node = 0;
+        for (int i = 0; i < normalizedPrefix.length(); i++) {
+            int edge = Arrays.binarySearch(edgeLabels, childStart[node], childStart[node + 1], normalizedPrefix.charAt(i));
+            if (edge < 0) {
+                return List.of();
+            }
+            node = edgeTargets[edge];
+        }
+
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        List<GazetteerCity> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(cities.get(topCities[i]));
+        }
+        return result;
+    }
+
+    int size() {
+        return cities.size();
+    }
+
+    // 너비 우선으로 번호를 매겨 배열로 옮김
+    private static CityPrefixIndex freeze(List<GazetteerCity> cities, BuildNode root) {
+        List<BuildNode> nodes = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        root.id = 0;
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            nodes.add(node);
+            for (BuildNode child : node.children.values()) {
+                child.id = nodes.size() + queue.size();
+                queue.add(child);
+            }
+        }
+
+        int edgeCount = nodes.size() - 1;
+        int topCount = nodes.stream().mapToInt(node -> node.top.size()).sum();
+        int[] childStart = new int[nodes.size() + 1];
+        char[] edgeLabels = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        int[] topStart = new int[nodes.size() + 1];
+        int[] topCities = new int[topCount];
+
+        int edge = 0;
+        int top = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            BuildNode node = nodes.get(i);
+            childStart[i] = edge;
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                edgeLabels[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue().id;
+                edge++;
+            }
+            topStart[i] = top;
+            for (int city : node.top) {
+                topCities[top++] = city;
+            }
+        }
+        childStart[nodes.size()] = edge;
+        topStart[nodes.size()] = top;
+
+        return new CityPrefixIndex(cities, childStart, edgeLabels, edgeTargets, topStart, topCities);
+    }
+
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> top = new ArrayList<>(2);
+        private int id;
+
+        // 인구 순으로 들어오므로 뒤에 붙이기만 하면 정렬이 유지됨 (같은 도시의 다른 이름은 한 번만)
+        void offer(int city, int maxResults) {
+            if (top.size() < maxResults && !top.contains(city)) {
+                top.add(city);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.travelerApp.demo.domain.city.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 내장 도시 목록 (기동 시 한 번 읽어 접두어 색인으로 만듦)
+// 형식: name, korean_name, alternate_names(쉼표 구분), country_code, country, latitude, longitude, population (탭 구분)
+@Slf4j
+@Component
+public class Gazetteer {
+
+    public static final int MAX_RESULTS = 20;
+
+    private final CityPrefixIndex index;
+
+    public Gazetteer(@Value("${city-search.gazetteer:classpath:gazetteer/cities.tsv}") Resource resource) {
+        List<GazetteerCity> cities = new ArrayList<>();
+        List<List<String>> names = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t", -1);
+                if (fields.length != 8) {
+                    throw new IllegalStateException("도시 목록 형식 오류 (" + lineNumber + "행)");
+                }
+                cities.add(new GazetteerCity(fields[0], fields[1], fields[3], fields[4],
+                        Double.parseDouble(fields[5]), Double.parseDouble(fields[6]), Long.parseLong(fields[7])));
+
+                List<String> cityNames = new ArrayList<>(List.of(fields[0], fields[1]));
+                if (!fields[2].isEmpty()) {
+                    cityNames.addAll(Arrays.asList(fields[2].split(",")));
+                }
+                names.add(cityNames);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("도시 목록을 읽지 못했습니다.", e);
+        }
+
+        this.index = CityPrefixIndex.build(cities, names, MAX_RESULTS);
+        log.info("도시 검색 색인 생성: {}개 도시", index.size());
+    }
+
+    // 이름 접두어 검색 (인구 순)
+    public List<GazetteerCity> search(String query, int limit) {
+        return index.search(CityNameNormalizer.normalize(query), Math.min(limit, MAX_RESULTS));
+    }
+}
@@ -0,0 +1,11 @@
+package com.travelerApp.demo.domain.city.search;
+
+// 도시 검색 결과 한 건 (내장 목록 또는 원격 지오코딩)
+public record GazetteerCity(String name,
+                            String koreanName,
+                            String countryCode,
+                            String country,
+                            double latitude,
+                            double longitude,
+                            long population) {
+}
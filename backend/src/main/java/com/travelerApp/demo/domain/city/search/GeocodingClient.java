@@ -0,0 +1,76 @@
+package com.travelerApp.demo.domain.city.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelerApp.demo.global.http.OutboundClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+// 내장 목록에 없는 도시만 조회하는 원격 지오코딩 (OpenWeatherMap Geocoding)
+// 같은 검색어는 캐시해 두고, 실패하면 빈 목록을 돌려줌 (실패 결과는 캐시하지 않음)
+@Slf4j
+@Component
+public class GeocodingClient {
+
+    private final OutboundClient client;
+    private final String apiKey;
+    private final AsyncCache<String, List<GazetteerCity>> cache;
+
+    public GeocodingClient(@Qualifier("geocodingOutboundClient") OutboundClient client,
+                           @Value("${external-api.openweathermap.api-key}") String apiKey,
+                           @Value("${city-search.remote-cache-ttl:1d}") Duration cacheTtl) {
+        this.client = client;
+        this.apiKey = apiKey;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(10_000)
+                .buildAsync();
+    }
+
+    public CompletableFuture<List<GazetteerCity>> search(String query) {
+        String key = query.strip().toLowerCase(Locale.ROOT);
+        return cache.get(key, (q, executor) -> fetch(q))
+                .exceptionally(e -> {
+                    log.warn("원격 지오코딩 실패: {}", e.getMessage());
+                    return List.of();
+                });
+    }
+
+    private CompletableFuture<List<GazetteerCity>> fetch(String query) {
+        return client.execute(client.webClient().get()
+                .uri(uri -> uri.path("/direct")
+                        .queryParam("q", query)
+                        .queryParam("limit", 5)
+                        .queryParam("appid", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+                .map(GeocodingClient::toCities)
+                .toFuture();
+    }
+
+    private static List<GazetteerCity> toCities(JsonNode body) {
+        List<GazetteerCity> cities = new ArrayList<>();
+        for (JsonNode item : body) {
+            String countryCode = item.path("country").asText("");
+            cities.add(new GazetteerCity(
+                    item.path("name").asText(),
+                    item.path("local_names").path("ko").asText(item.path("name").asText()),
+                    countryCode,
+                    Locale.of("", countryCode).getDisplayCountry(Locale.KOREAN),
+                    item.path("lat").asDouble(),
+                    item.path("lon").asDouble(),
+                    0));
+        }
+        return cities;
+    }
+}
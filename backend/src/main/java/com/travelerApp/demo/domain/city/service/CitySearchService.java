@@ -0,0 +1,49 @@
+package com.travelerApp.demo.domain.city.service;
+
+import com.travelerApp.demo.domain.city.dto.CitySearchResponse;
+import com.travelerApp.demo.domain.city.search.CityNameNormalizer;
+import com.travelerApp.demo.domain.city.search.Gazetteer;
+import com.travelerApp.demo.domain.city.search.GazetteerCity;
+import com.travelerApp.demo.domain.city.search.GeocodingClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 도시 자동완성
+// 내장 목록 색인에서 먼저 찾고, 일치하는 도시가 없을 때만 원격 지오코딩 호출
+@Service
+public class CitySearchService {
+
+    private final Gazetteer gazetteer;
+    private final GeocodingClient geocodingClient;
+    private final int remoteMinLength;
+
+    public CitySearchService(Gazetteer gazetteer,
+                             GeocodingClient geocodingClient,
+                             @Value("${city-search.remote-min-length:2}") int remoteMinLength) {
+        this.gazetteer = gazetteer;
+        this.geocodingClient = geocodingClient;
+        this.remoteMinLength = remoteMinLength;
+    }
+
+    public CompletableFuture<List<CitySearchResponse>> search(String query, int limit) {
+        List<GazetteerCity> local = gazetteer.search(query, limit);
+        if (!local.isEmpty()) {
+            return CompletableFuture.completedFuture(toResponses(local, limit));
+        }
+        // 한 글자 입력 중에는 원격 호출하지 않음 (완성된 글자 수 기준)
+        if (query.strip().length() < remoteMinLength || CityNameNormalizer.normalize(query).isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return geocodingClient.search(query).thenApply(remote -> toResponses(remote, limit));
+    }
+
+    private static List<CitySearchResponse> toResponses(List<GazetteerCity> cities, int limit) {
+        return cities.stream()
+                .limit(limit)
+                .map(CitySearchResponse::from)
+                .toList();
+    }
+}
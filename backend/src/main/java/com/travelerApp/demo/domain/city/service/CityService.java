@@ -0,0 +1,63 @@
+package com.travelerApp.demo.domain.city.service;
+
+import com.travelerApp.demo.domain.city.dto.CityRequest;
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.city.entity.City;
+import com.travelerApp.demo.domain.city.repository.CityRepository;
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import com.travelerApp.demo.domain.sync.service.SyncTombstoneWriter;
+import com.travelerApp.demo.domain.sync.service.SyncVersionAllocator;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CityService {
+
+    private final CityRepository cityRepository;
+    private final UserRepository userRepository;
+    private final SyncVersionAllocator syncVersionAllocator;
+    private final SyncTombstoneWriter syncTombstoneWriter;
+
+    // 저장된 도시 목록
+    public List<CityResponse> getCities(Long userSeq) {
+        return cityRepository.findByUserSeqOrderBySeqAsc(userSeq).stream()
+                .map(CityResponse::from)
+                .toList();
+    }
+
+    // 도시 저장 (같은 도시 중복 저장 불가)
+    @Transactional
+    public CityResponse create(Long userSeq, CityRequest request) {
+        long version = syncVersionAllocator.next(userSeq);
+        if (cityRepository.existsByUserSeqAndNameAndCountry(userSeq, request.getName(), request.getCountry())) {
+            throw new IllegalArgumentException("이미 저장된 도시입니다.");
+        }
+
+        City city = City.builder()
+                .user(userRepository.getReferenceById(userSeq))
+                .name(request.getName())
+                .country(request.getCountry())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .version(version)
+                .build();
+        return CityResponse.from(cityRepository.save(city));
+    }
+
+    // 도시 삭제
+    @Transactional
+    public void delete(Long userSeq, Long citySeq) {
+        long version = syncVersionAllocator.next(userSeq);
+        City city = cityRepository.findBySeqAndUserSeq(citySeq, userSeq)
+                .orElseThrow(() -> new IllegalArgumentException("저장된 도시를 찾을 수 없습니다."));
+
+        cityRepository.delete(city);
+        syncTombstoneWriter.deleted(userSeq, SyncEntityType.CITY, citySeq, version);
+    }
+}
@@ -0,0 +1,62 @@
+package com.travelerApp.demo.domain.exchange.controller;
+
+import com.travelerApp.demo.domain.exchange.dto.BulkConversionRequest;
+import com.travelerApp.demo.domain.exchange.dto.BulkConversionResponse;
+import com.travelerApp.demo.domain.exchange.dto.ConversionResponse;
+import com.travelerApp.demo.domain.exchange.dto.ExchangeRateResponse;
+import com.travelerApp.demo.domain.exchange.service.ExchangeRateService;
+import com.travelerApp.demo.domain.exchange.service.ExchangeRateTable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/exchange-rate")
+@RequiredArgsConstructor
+public class ExchangeRateController {
+
+    private final ExchangeRateService exchangeRateService;
+
+    // 환율 조회 (통화 미지정 시 전체)
+    @GetMapping
+    public ResponseEntity<ExchangeRateResponse> rates(
+            @RequestParam(value = "currency", required = false) @Pattern(regexp = "[A-Z]{3}") String currency) {
+        ExchangeRateTable table = exchangeRateService.getTable();
+        return ResponseEntity.ok(ExchangeRateResponse.of(table,
+                currency == null ? List.copyOf(table.getRates()) : List.of(table.get(currency))));
+    }
+
+    // 통화 변환
+    @GetMapping("/convert")
+    public ResponseEntity<ConversionResponse> convert(
+            @RequestParam("from") @Pattern(regexp = "[A-Z]{3}") String from,
+            @RequestParam(value = "to", defaultValue = ExchangeRateService.BASE_CURRENCY) @Pattern(regexp = "[A-Z]{3}") String to,
+            @RequestParam("amount") @DecimalMin("0") BigDecimal amount) {
+        ExchangeRateTable table = exchangeRateService.getTable();
+        return ResponseEntity.ok(ConversionResponse.builder()
+                .from(from)
+                .to(to)
+                .amount(amount)
+                .convertedAmount(table.convert(amount, from, to))
+                .date(table.getDate())
+                .build());
+    }
+
+    // 지출일 기준 대량 변환
+    @PostMapping("/convert/bulk")
+    public ResponseEntity<BulkConversionResponse> convertBulk(@Valid @RequestBody BulkConversionRequest request) {
+        return ResponseEntity.ok(BulkConversionResponse.of(request.getTo(),
+                exchangeRateService.convertAll(request.getItems(), request.getTo())));
+    }
+}
@@ -0,0 +1,45 @@
+package com.travelerApp.demo.domain.exchange.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BulkConversionRequest {
+
+    @NotNull(message = "변환할 통화는 필수입니다.")
+    @Pattern(regexp = "[A-Z]{3}", message = "통화 코드는 영문 대문자 3자입니다.")
+    private String to = "KRW";
+
+    @NotEmpty(message = "변환할 항목이 없습니다.")
+    @Size(max = 10000, message = "한 번에 10000건까지 변환할 수 있습니다.")
+    private List<@NotNull(message = "빈 항목은 변환할 수 없습니다.") @Valid Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "금액은 필수입니다.")
+        @DecimalMin(value = "0", message = "금액은 0 이상이어야 합니다.")
+        private BigDecimal amount;
+
+        @NotNull(message = "통화는 필수입니다.")
+        @Pattern(regexp = "[A-Z]{3}", message = "통화 코드는 영문 대문자 3자입니다.")
+        private String currency;
+
+        @NotNull(message = "날짜는 필수입니다.")
+        private LocalDate date;   // 지출일
+    }
+}
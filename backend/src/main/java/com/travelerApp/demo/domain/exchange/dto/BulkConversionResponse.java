@@ -0,0 +1,27 @@
+package com.travelerApp.demo.domain.exchange.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+@Getter
+@Builder
+public class BulkConversionResponse {
+
+    private String to;
+    private List<BigDecimal> convertedAmounts; // 요청 순서, 환율이 없으면 null
+    private BigDecimal total;                  // 변환된 항목 합계
+    private int missingCount;                  // 환율이 없어 제외된 항목 수
+
+    public static BulkConversionResponse of(String to, List<BigDecimal> convertedAmounts) {
+        return BulkConversionResponse.builder()
+                .to(to)
+                .convertedAmounts(convertedAmounts)
+                .total(convertedAmounts.stream().filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .missingCount((int) convertedAmounts.stream().filter(Objects::isNull).count())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.travelerApp.demo.domain.exchange.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ConversionResponse {
+
+    private String from;
+    private String to;
+    private BigDecimal amount;
+    private BigDecimal convertedAmount;
+    private LocalDate date;           // 적용 환율 고시일
+}
@@ -0,0 +1,41 @@
+package com.travelerApp.demo.domain.exchange.dto;
+
+import com.travelerApp.demo.domain.exchange.service.ExchangeRate;
+import com.travelerApp.demo.domain.exchange.service.ExchangeRateTable;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@Builder
+public class ExchangeRateResponse {
+
+    private LocalDate date;           // 고시일
+    private List<Rate> rates;
+
+    @Getter
+    @Builder
+    public static class Rate {
+        private String currency;
+        private String name;
+        private BigDecimal rate;      // 1단위당 원화
+    }
+
+    public static ExchangeRateResponse of(ExchangeRateTable table, List<ExchangeRate> rates) {
+        return ExchangeRateResponse.builder()
+                .date(table.getDate())
+                .rates(rates.stream()
+                        .sorted(Comparator.comparing(ExchangeRate::getCurrency))
+                        .map(rate -> Rate.builder()
+                                .currency(rate.getCurrency())
+                                .name(rate.getName())
+                                .rate(rate.getRate())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
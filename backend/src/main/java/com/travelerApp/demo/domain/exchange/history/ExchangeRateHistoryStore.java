@@ -0,0 +1,125 @@
+package com.travelerApp.demo.domain.exchange.history;
+
+import com.travelerApp.demo.domain.exchange.service.ExchangeRate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 일별 환율 이력 저장소 (통화별 파일을 메모리 매핑, 추가만 가능)
+// 조회는 (통화, 날짜) → 파일 내 위치 계산 한 번으로 끝남
+@Slf4j
+@Component
+public class ExchangeRateHistoryStore {
+
+    public static final int SCALE = 8; // 고정소수점 자리수
+
+    private static final String EXTENSION = ".rates";
+
+    private final Path directory;
+    private final int lookbackDays;
+
+    private final Map<String, RateColumn> columns = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ExchangeRateHistoryStore(@Value("${exchange-rate.history.directory:./data/exchange-rates}") Path directory,
+                                    @Value("${exchange-rate.lookback-days:7}") int lookbackDays) {
+        this.directory = directory;
+        this.lookbackDays = lookbackDays;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                columns.put(name.substring(0, name.length() - EXTENSION.length()), RateColumn.open(file));
+            }
+        }
+        log.info("환율 이력 {}개 통화 적재, 마지막 고시일: {}", columns.size(), getLastDate());
+    }
+
+    @PreDestroy
+    public void close() {
+        columns.values().forEach(column -> {
+            try {
+                column.close();
+            } catch (IOException e) {
+                log.warn("환율 이력 파일 닫기 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 기록된 마지막 고시일 (비어 있으면 null)
+    public LocalDate getLastDate() {
+        OptionalLong lastDay = columns.values().stream()
+                .mapToLong(RateColumn::getLastDay)
+                .max();
+        return lastDay.isPresent() ? LocalDate.ofEpochDay(lastDay.getAsLong()) : null;
+    }
+
+    // 고시일 환율 추가 (이미 기록된 통화·날짜는 건너뜀)
+    public void append(LocalDate date, Collection<ExchangeRate> rates) {
+        long day = date.toEpochDay();
+        writeLock.lock();
+        try {
+            for (ExchangeRate rate : rates) {
+                RateColumn column = columns.get(rate.getCurrency());
+                if (column == null) {
+                    column = RateColumn.create(directory.resolve(rate.getCurrency() + EXTENSION), day);
+                    columns.put(rate.getCurrency(), column);
+                }
+                if (day > column.getLastDay()) {
+                    column.append(day, toFixed(rate.getRate()));
+                    column.force();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("환율 이력 기록 실패", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 해당 날짜 환율 (1단위당 원화, 휴일이면 직전 고시일 기준, 없으면 null)
+    public BigDecimal getRate(String currency, LocalDate date) {
+        long fixed = getFixedRate(currency, date.toEpochDay());
+        return fixed == RateColumn.MISSING ? null : BigDecimal.valueOf(fixed, SCALE);
+    }
+
+    // 고정소수점 환율 (대량 변환용, 없으면 0)
+    public long getFixedRate(String currency, long epochDay) {
+        RateColumn column = columns.get(currency);
+        if (column == null) {
+            return RateColumn.MISSING;
+        }
+
+        for (int i = 0; i < lookbackDays; i++) {
+            long value = column.get(epochDay - i);
+            if (value != RateColumn.MISSING) {
+                return value;
+            }
+        }
+        return RateColumn.MISSING;
+    }
+
+    private static long toFixed(BigDecimal rate) {
+        return rate.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
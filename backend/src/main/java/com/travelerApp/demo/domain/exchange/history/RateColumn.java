@@ -0,0 +1,113 @@
+package com.travelerApp.demo.domain.exchange.history;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 통화 하나의 일별 환율 열 (파일 하나, 날짜는 위치로 표현)
+// [헤더 32바이트: magic, version, 시작일, 마지막일] + [일자별 long 환율 (고정소수점, 0은 미고시)]
+class RateColumn implements AutoCloseable {
+
+    static final int MAGIC = 0x54524652; // "TRFR"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final long MISSING = 0L;
+
+    private static final int FIRST_DAY_OFFSET = 8;
+    private static final int LAST_DAY_OFFSET = 16;
+    private static final int GROWTH_DAYS = 366;
+
+    private final FileChannel channel;
+    private final long firstDay;   // epoch day
+
+    // 읽기 쪽은 아래 두 값만 보고 락 없이 조회 (쓰기는 단일 스레드)
+    private volatile MappedByteBuffer buffer;
+    private volatile long lastDay;
+
+    private RateColumn(FileChannel channel, MappedByteBuffer buffer, long firstDay, long lastDay) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    // 기존 파일 열기
+    static RateColumn open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException("환율 파일 형식이 올바르지 않습니다: " + path);
+        }
+        return new RateColumn(channel, buffer, buffer.getLong(FIRST_DAY_OFFSET), buffer.getLong(LAST_DAY_OFFSET));
+    }
+
+    // 새 파일 생성 (firstDay부터 기록)
+    static RateColumn create(Path path, long firstDay) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor(0));
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(FIRST_DAY_OFFSET, firstDay);
+        buffer.putLong(LAST_DAY_OFFSET, firstDay - 1);
+        buffer.force();
+        return new RateColumn(channel, buffer, firstDay, firstDay - 1);
+    }
+
+    long getFirstDay() {
+        return firstDay;
+    }
+
+    long getLastDay() {
+        return lastDay;
+    }
+
+    // 해당 일자 값 (범위 밖이면 MISSING)
+    long get(long day) {
+        long last = lastDay;
+        if (day < firstDay || day > last) {
+            return MISSING;
+        }
+        return buffer.getLong(offset(day));
+    }
+
+    // 마지막 일자 뒤에 추가 (사이 빈 날은 MISSING으로 남음)
+    void append(long day, long value) throws IOException {
+        if (day <= lastDay) {
+            throw new IllegalArgumentException("이미 기록된 일자입니다: " + day);
+        }
+
+        long required = (long) offset(day) + Long.BYTES;
+        MappedByteBuffer current = buffer;
+        if (required > current.capacity()) {
+            current = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor(day - firstDay));
+            this.buffer = current;
+        }
+
+        current.putLong(offset(day), value);
+        current.putLong(LAST_DAY_OFFSET, day);
+        this.lastDay = day; // 값 기록 후 공개
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int offset(long day) {
+        return Math.toIntExact(HEADER_SIZE + (day - firstDay) * Long.BYTES);
+    }
+
+    // 1년 단위로 늘림
+    private static long capacityFor(long dayIndex) {
+        long days = (dayIndex / GROWTH_DAYS + 1) * GROWTH_DAYS;
+        return HEADER_SIZE + days * Long.BYTES;
+    }
+}
@@ -0,0 +1,15 @@
+package com.travelerApp.demo.domain.exchange.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class ExchangeRate {
+
+    private final String currency;  // 통화 코드 (USD, JPY 등)
+    private final String name;      // 통화명
+    private final BigDecimal rate;  // 1단위당 원화 (매매 기준율)
+}
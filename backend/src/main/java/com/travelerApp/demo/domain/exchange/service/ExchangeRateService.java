@@ -0,0 +1,243 @@
+package com.travelerApp.demo.domain.exchange.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.travelerApp.demo.domain.exchange.dto.BulkConversionRequest;
+import com.travelerApp.demo.domain.exchange.history.ExchangeRateHistoryStore;
+import com.travelerApp.demo.global.exception.ServiceBusyException;
+import com.travelerApp.demo.global.http.OutboundClient;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 일별 환율 스냅샷 (하루 1회 외부 조회, 요청 처리 시에는 메모리 테이블만 사용)
+@Slf4j
+@Service
+public class ExchangeRateService {
+
+    public static final String BASE_CURRENCY = "KRW";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SEARCH_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern CURRENCY_UNIT = Pattern.compile("([A-Z]{3})(?:\\((\\d+)\\))?");
+    private static final int RESULT_SUCCESS = 1;
+    private static final int RATE_SCALE = 8;
+    private static final int AMOUNT_SCALE = 2;
+
+    private final OutboundClient client;
+    private final TaskScheduler taskScheduler;
+    private final ExchangeRateHistoryStore historyStore;
+    private final String apiKey;
+    private final int lookbackDays;
+    private final Duration retryDelay;
+    private final int maxRetries;
+    private final int backfillDays;
+
+    // 현재 환율표 (갱신 시 통째로 교체)
+    private volatile ExchangeRateTable table = ExchangeRateTable.EMPTY;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicBoolean retrying = new AtomicBoolean(false);
+
+    public ExchangeRateService(@Qualifier("exchangeRateOutboundClient") OutboundClient client,
+                               TaskScheduler taskScheduler,
+                               ExchangeRateHistoryStore historyStore,
+                               @Value("${external-api.exchange-rate.api-key}") String apiKey,
+                               @Value("${exchange-rate.lookback-days:7}") int lookbackDays,
+                               @Value("${exchange-rate.retry-delay:10m}") Duration retryDelay,
+                               @Value("${exchange-rate.max-retries:6}") int maxRetries,
+                               @Value("${exchange-rate.history.backfill-days:30}") int backfillDays) {
+        this.client = client;
+        this.taskScheduler = taskScheduler;
+        this.historyStore = historyStore;
+        this.apiKey = apiKey;
+        this.lookbackDays = lookbackDays;
+        this.retryDelay = retryDelay;
+        this.maxRetries = maxRetries;
+        this.backfillDays = backfillDays;
+    }
+
+    // 기동 시 백그라운드 적재 (기동을 막지 않음)
+    @PostConstruct
+    protected void init() {
+        taskScheduler.schedule(this::scheduledRefresh, Instant.now());
+    }
+
+    // 평일 고시(11시 전후) 이후 갱신
+    @Scheduled(cron = "${exchange-rate.refresh-cron:0 5 11 * * MON-FRI}", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        if (!refresh() && retrying.compareAndSet(false, true)) {
+            scheduleRetry(1);
+        }
+    }
+
+    // 실패 후 재시도 (오늘 고시분을 받거나 최대 횟수까지, 평일 공휴일은 여기서 멈춤)
+    private void scheduleRetry(int attempt) {
+        taskScheduler.schedule(() -> {
+            if (refresh() || attempt >= maxRetries) {
+                retrying.set(false);
+            } else {
+                scheduleRetry(attempt + 1);
+            }
+        }, Instant.now().plus(retryDelay));
+    }
+
+    // 현재 환율표 (비어 있으면 아직 적재 전)
+    public ExchangeRateTable getTable() {
+        ExchangeRateTable current = table;
+        if (current.isEmpty()) {
+            throw new ServiceBusyException("환율 정보를 준비 중입니다.", retryDelay.toSeconds());
+        }
+        return current;
+    }
+
+    // 최근 고시일 환율 조회 후 교체 (최신 고시분을 확보하면 true, 실패 시 기존 표 유지)
+    boolean refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return true;
+        }
+
+        try {
+            LocalDate today = LocalDate.now(ZONE);
+            for (int i = 0; i < lookbackDays; i++) {
+                LocalDate date = today.minusDays(i);
+                if (date.equals(table.getDate())) {
+                    syncHistory(table);
+                    return isLatest(today, date);
+                }
+
+                Map<String, ExchangeRate> rates = fetch(date);
+                if (!rates.isEmpty()) {
+                    this.table = new ExchangeRateTable(date, rates);
+                    log.info("환율 {}개 갱신, 고시일: {}", rates.size(), date);
+                    syncHistory(table);
+                    return isLatest(today, date);
+                }
+            }
+            log.warn("최근 {}일간 환율 고시가 없습니다.", lookbackDays);
+            return false;
+
+        } catch (Exception e) {
+            log.error("환율 갱신 실패 (기존 환율 유지): {}", e.getMessage());
+            return false;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    // 이력 저장소에 빠진 고시일을 순서대로 추가 (처음이면 backfill-days만큼 거슬러 채움)
+    private void syncHistory(ExchangeRateTable current) {
+        LocalDate lastDate = historyStore.getLastDate();
+        if (lastDate != null && !lastDate.isBefore(current.getDate())) {
+            return;
+        }
+
+        LocalDate from = lastDate == null ? current.getDate().minusDays(backfillDays) : lastDate.plusDays(1);
+        for (LocalDate date = from; date.isBefore(current.getDate()); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() >= 6) {
+                continue;
+            }
+            Map<String, ExchangeRate> rates = fetch(date);
+            if (!rates.isEmpty()) {
+                historyStore.append(date, rates.values());
+            }
+        }
+        historyStore.append(current.getDate(), current.getRates());
+    }
+
+    // 지출일 기준 대량 변환 (행마다 해당 날짜 환율 적용, 환율이 없는 행은 null)
+    public List<BigDecimal> convertAll(List<BulkConversionRequest.Item> items, String to) {
+        List<BigDecimal> converted = new ArrayList<>(items.size());
+        for (BulkConversionRequest.Item item : items) {
+            long day = item.getDate().toEpochDay();
+            long fromRate = historyStore.getFixedRate(item.getCurrency(), day);
+            long toRate = historyStore.getFixedRate(to, day);
+
+            if (fromRate == 0 || toRate == 0) {
+                converted.add(null);
+            } else if (fromRate == toRate) {
+                converted.add(item.getAmount().setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+            } else {
+                converted.add(item.getAmount()
+                        .multiply(BigDecimal.valueOf(fromRate))
+                        .divide(BigDecimal.valueOf(toRate), AMOUNT_SCALE, RoundingMode.HALF_UP));
+            }
+        }
+        return converted;
+    }
+
+    // 주말에는 직전 평일 고시분이 최신
+    private boolean isLatest(LocalDate today, LocalDate date) {
+        return date.equals(today) || today.getDayOfWeek().getValue() >= 6;
+    }
+
+    // 고시일 환율 조회 (휴일·고시 전에는 빈 결과)
+    private Map<String, ExchangeRate> fetch(LocalDate date) {
+        JsonNode body = client.execute(client.webClient().get()
+                .uri(uri -> uri
+                        .queryParam("authkey", apiKey)
+                        .queryParam("searchdate", date.format(SEARCH_DATE))
+                        .queryParam("data", "AP01")
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+                .block();
+
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        if (body == null || !body.isArray()) {
+            return rates;
+        }
+
+        for (JsonNode item : body) {
+            int result = item.path("result").asInt();
+            if (result != RESULT_SUCCESS) {
+                throw new IllegalStateException("환율 API 오류 코드: " + result);
+            }
+
+            ExchangeRate rate = parse(item);
+            if (rate != null) {
+                rates.put(rate.getCurrency(), rate);
+            }
+        }
+
+        if (!rates.isEmpty()) {
+            rates.putIfAbsent(BASE_CURRENCY, ExchangeRate.builder()
+                    .currency(BASE_CURRENCY).name("한국 원").rate(BigDecimal.ONE).build());
+        }
+        return rates;
+    }
+
+    // JPY(100) 같은 단위 표기는 1단위 기준으로 환산
+    private ExchangeRate parse(JsonNode item) {
+        Matcher matcher = CURRENCY_UNIT.matcher(item.path("cur_unit").asText());
+        String dealBaseRate = item.path("deal_bas_r").asText().replace(",", "");
+        if (!matcher.matches() || dealBaseRate.isEmpty()) {
+            return null;
+        }
+
+        BigDecimal unit = matcher.group(2) == null ? BigDecimal.ONE : new BigDecimal(matcher.group(2));
+        return ExchangeRate.builder()
+                .currency(matcher.group(1))
+                .name(item.path("cur_nm").asText())
+                .rate(new BigDecimal(dealBaseRate).divide(unit, RATE_SCALE, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.travelerApp.demo.domain.exchange.service;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+// 하루치 환율 스냅샷 (불변, 갱신 시 통째로 교체)
+public class ExchangeRateTable {
+
+    public static final ExchangeRateTable EMPTY = new ExchangeRateTable(null, Map.of());
+
+    private static final int RATE_SCALE = 8;
+    private static final int AMOUNT_SCALE = 2;
+
+    @Getter
+    private final LocalDate date; // 고시일
+
+    private final Map<String, ExchangeRate> rates;
+
+    public ExchangeRateTable(LocalDate date, Map<String, ExchangeRate> rates) {
+        this.date = date;
+        this.rates = Map.copyOf(rates);
+    }
+
+    public boolean isEmpty() {
+        return rates.isEmpty();
+    }
+
+    public Collection<ExchangeRate> getRates() {
+        return rates.values();
+    }
+
+    // 통화별 환율
+    public ExchangeRate get(String currency) {
+        ExchangeRate rate = rates.get(currency);
+        if (rate == null) {
+            throw new IllegalArgumentException("지원하지 않는 통화입니다: " + currency);
+        }
+        return rate;
+    }
+
+    // 통화 변환 (원화를 거쳐 계산)
+    public BigDecimal convert(BigDecimal amount, String from, String to) {
+        if (from.equals(to)) {
+            return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal krw = amount.multiply(get(from).getRate());
+        return krw.divide(get(to).getRate(), RATE_SCALE, RoundingMode.HALF_UP)
+                .setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,127 @@
+package com.travelerApp.demo.domain.expense.controller;
+
+import com.travelerApp.demo.domain.expense.dto.ExpenseRequest;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.dto.ExpenseSummaryResponse;
+import com.travelerApp.demo.domain.expense.service.ExpenseExportService;
+import com.travelerApp.demo.domain.expense.service.ExpenseImportService;
+import com.travelerApp.demo.domain.expense.service.ExpenseService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/expenses")
+@RequiredArgsConstructor
+public class ExpenseController {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
+    private final ExpenseExportService expenseExportService;
+
+    // 지출 목록 (기간 미지정 시 전체)
+    @GetMapping
+    public ResponseEntity<List<ExpenseResponse>> getExpenses(
+            Authentication authentication,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(expenseService.getExpenses(userSeq(authentication),
+                from != null ? from : MIN_DATE, to != null ? to : MAX_DATE));
+    }
+
+    // 지출 요약 (카테고리·통화별 누적, 일자별은 기간 내)
+    @GetMapping("/summary")
+    public ResponseEntity<ExpenseSummaryResponse> getSummary(
+            Authentication authentication,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(expenseService.getSummary(userSeq(authentication),
+                from != null ? from : MIN_DATE, to != null ? to : MAX_DATE));
+    }
+
+    // 지출 추가
+    @PostMapping
+    public ResponseEntity<ExpenseResponse> create(Authentication authentication,
+                                                  @Valid @RequestBody ExpenseRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(expenseService.create(userSeq(authentication), request));
+    }
+
+    // 지출 수정
+    @PutMapping("/{id}")
+    public ResponseEntity<ExpenseResponse> update(Authentication authentication,
+                                                  @PathVariable("id") Long id,
+                                                  @Valid @RequestBody ExpenseRequest request) {
+        return ResponseEntity.ok(expenseService.update(userSeq(authentication), id, request));
+    }
+
+    // 지출 삭제
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication authentication, @PathVariable("id") Long id) {
+        expenseService.delete(userSeq(authentication), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // CSV 가져오기 (헤더: date,category,amount,currency,memo)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<Map<String, Object>> importCsv(Authentication authentication,
+                                                         InputStream body) throws IOException {
+        int count = expenseImportService.importCsv(userSeq(authentication), body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("importedCount", count));
+    }
+
+    // NDJSON 가져오기
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<Map<String, Object>> importNdjson(Authentication authentication,
+                                                            InputStream body) throws IOException {
+        int count = expenseImportService.importNdjson(userSeq(authentication), body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("importedCount", count));
+    }
+
+    // 내보내기 (format: csv, ndjson), 조회 결과를 바로 응답에 씀
+    @GetMapping("/export")
+    public void export(Authentication authentication,
+                       @RequestParam(value = "format", defaultValue = "csv") String format,
+                       @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                       @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                       HttpServletResponse response) throws IOException {
+        Long userSeq = userSeq(authentication);
+        LocalDate start = from != null ? from : MIN_DATE;
+        LocalDate end = to != null ? to : MAX_DATE;
+
+        switch (format) {
+            case "csv" -> {
+                response.setContentType("text/csv;charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"expenses.csv\"");
+                expenseExportService.exportCsv(userSeq, start, end, response.getOutputStream());
+            }
+            case "ndjson" -> {
+                response.setContentType(NDJSON);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"expenses.ndjson\"");
+                expenseExportService.exportNdjson(userSeq, start, end, response.getOutputStream());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+    }
+
+    private static Long userSeq(Authentication authentication) {
+        return (Long) authentication.getPrincipal();
+    }
+}
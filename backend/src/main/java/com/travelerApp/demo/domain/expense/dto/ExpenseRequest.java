@@ -0,0 +1,38 @@
+package com.travelerApp.demo.domain.expense.dto;
+
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseRequest {
+
+    @NotNull(message = "금액은 필수입니다.")
+    @DecimalMin(value = "0", message = "금액은 0 이상이어야 합니다.")
+    @Digits(integer = 13, fraction = 2, message = "금액은 소수점 2자리까지 입력할 수 있습니다.")
+    private BigDecimal amount;
+
+    @NotNull(message = "통화는 필수입니다.")
+    @Pattern(regexp = "[A-Z]{3}", message = "통화 코드는 영문 대문자 3자입니다.")
+    private String currency = "KRW";
+
+    @NotNull(message = "카테고리는 필수입니다.")
+    private ExpenseCategory category;
+
+    @Size(max = 500, message = "메모는 500자 이하여야 합니다.")
+    private String memo;
+
+    @NotNull(message = "지출일은 필수입니다.")
+    private LocalDate date;
+}
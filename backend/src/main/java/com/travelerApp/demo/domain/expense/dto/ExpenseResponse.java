@@ -0,0 +1,35 @@
+package com.travelerApp.demo.domain.expense.dto;
+
+import com.travelerApp.demo.domain.expense.entity.Expense;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ExpenseResponse {
+
+    private Long seq;
+    private BigDecimal amount;
+    private String currency;
+    private ExpenseCategory category;
+    private String memo;
+    private LocalDate date;
+    private LocalDateTime createdAt;
+
+    public static ExpenseResponse from(Expense expense) {
+        return ExpenseResponse.builder()
+                .seq(expense.getSeq())
+                .amount(expense.getAmount())
+                .currency(expense.getCurrency())
+                .category(expense.getCategory())
+                .memo(expense.getMemo())
+                .date(expense.getDate())
+                .createdAt(expense.getCreatedAt())
+                .build();
+    }
+}
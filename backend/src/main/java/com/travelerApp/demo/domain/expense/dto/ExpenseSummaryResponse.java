@@ -0,0 +1,45 @@
+package com.travelerApp.demo.domain.expense.dto;
+
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+// 지출 요약 (합계는 통화별로 따로 집계)
+@Getter
+@Builder
+public class ExpenseSummaryResponse {
+
+    private List<CurrencyTotal> byCurrency;
+    private List<CategoryTotal> byCategory;
+    private List<DailyTotal> byDay;         // 요청 기간 내
+
+    @Getter
+    @Builder
+    public static class CurrencyTotal {
+        private String currency;
+        private BigDecimal total;
+        private int count;
+    }
+
+    @Getter
+    @Builder
+    public static class CategoryTotal {
+        private ExpenseCategory category;
+        private String currency;
+        private BigDecimal total;
+        private int count;
+    }
+
+    @Getter
+    @Builder
+    public static class DailyTotal {
+        private LocalDate date;
+        private String currency;
+        private BigDecimal total;
+        private int count;
+    }
+}
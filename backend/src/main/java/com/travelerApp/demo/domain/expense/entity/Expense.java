@@ -0,0 +1,81 @@
+package com.travelerApp.demo.domain.expense.entity;
+
+import com.travelerApp.demo.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "expenses",
+        indexes = {
+                @Index(name = "idx_expenses_user_date", columnList = "user_seq, date"),
+                @Index(name = "idx_expenses_user_version", columnList = "user_seq, version")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Expense {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_seq", nullable = false)
+    private User user;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3)
+    private String currency; // KRW, USD, JPY 등
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ExpenseCategory category;
+
+    @Column(length = 500)
+    private String memo;
+
+    @Column(nullable = false)
+    private LocalDate date; // 지출일
+
+    @Column(nullable = false)
+    private Long version; // 동기화 버전
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public Expense(User user, BigDecimal amount, String currency, ExpenseCategory category, String memo, LocalDate date,
+                   Long version) {
+        this.user = user;
+        this.amount = amount;
+        this.currency = currency;
+        this.category = category;
+        this.memo = memo;
+        this.date = date;
+        this.version = version;
+    }
+
+    // 지출 수정
+    public void update(BigDecimal amount, String currency, ExpenseCategory category, String memo, LocalDate date,
+                       Long version) {
+        this.amount = amount;
+        this.currency = currency;
+        this.category = category;
+        this.memo = memo;
+        this.date = date;
+        this.version = version;
+    }
+}
@@ -0,0 +1,10 @@
+package com.travelerApp.demo.domain.expense.entity;
+
+public enum ExpenseCategory {
+    FOOD,           // 식비
+    TRANSPORT,      // 교통
+    ACCOMMODATION,  // 숙박
+    SHOPPING,       // 쇼핑
+    ACTIVITY,       // 활동/관광
+    OTHER           // 기타
+}
@@ -0,0 +1,37 @@
+package com.travelerApp.demo.domain.expense.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 사용자·카테고리·통화별 지출 합계 (지출 변경 시 증분 갱신, ExpenseSummaryUpdater 참고)
+@Entity
+@Table(name = "expense_category_totals",
+        uniqueConstraints = @UniqueConstraint(name = "uk_expense_category_totals", columnNames = {"user_seq", "category", "currency"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExpenseCategoryTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "user_seq", nullable = false)
+    private Long userSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ExpenseCategory category;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private Integer expenseCount;
+}
@@ -0,0 +1,11 @@
+package com.travelerApp.demo.domain.expense.repository;
+
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategoryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ExpenseCategoryTotalRepository extends JpaRepository<ExpenseCategoryTotal, Long> {
+
+    List<ExpenseCategoryTotal> findByUserSeqOrderByCategoryAscCurrencyAsc(Long userSeq);
+}
@@ -0,0 +1,12 @@
+package com.travelerApp.demo.domain.expense.repository;
+
+import com.travelerApp.demo.domain.expense.entity.ExpenseDailyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExpenseDailyTotalRepository extends JpaRepository<ExpenseDailyTotal, Long> {
+
+    List<ExpenseDailyTotal> findByUserSeqAndDateBetweenOrderByDateAscCurrencyAsc(Long userSeq, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,24 @@
+package com.travelerApp.demo.domain.expense.repository;
+
+import com.travelerApp.demo.domain.expense.entity.Expense;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+
+    // 기간별 지출 목록 (idx_expenses_user_date 사용)
+    List<Expense> findByUserSeqAndDateBetweenOrderByDateDescSeqDesc(Long userSeq, LocalDate from, LocalDate to);
+
+    // 커서 이후 변경분 (idx_expenses_user_version)
+    List<Expense> findByUserSeqAndVersionGreaterThanOrderByVersionAsc(Long userSeq, Long version, Pageable pageable);
+
+    // 본인 지출만 조회
+    @Query("SELECT e FROM Expense e WHERE e.seq = :seq AND e.user.seq = :userSeq")
+    Optional<Expense> findBySeqAndUserSeq(@Param("seq") Long seq, @Param("userSeq") Long userSeq);
+}
@@ -0,0 +1,57 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 지출 CSV 한 줄 단위 변환 (RFC 4180, 필드 안 줄바꿈은 지원하지 않음)
+final class ExpenseCsv {
+
+    static final String[] COLUMNS = {"date", "category", "amount", "currency", "memo"};
+
+    private ExpenseCsv() {
+    }
+
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS.length);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static void appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.append(value);
+            return;
+        }
+        out.append('"').append(value.replace("\"", "\"\"").replace("\r", " ").replace("\n", " ")).append('"');
+    }
+}
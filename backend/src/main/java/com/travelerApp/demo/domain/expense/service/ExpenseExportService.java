@@ -0,0 +1,95 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+// 지출 내보내기 (커서로 읽은 행을 바로 응답에 씀, 목록을 메모리에 만들지 않음)
+@Service
+public class ExpenseExportService {
+
+    private static final String SELECT_SQL =
+            "SELECT seq, amount, currency, category, memo, date, created_at FROM expenses "
+                    + "WHERE user_seq = ? AND date BETWEEN ? AND ? ORDER BY date, seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExpenseExportService(DataSource dataSource,
+                                ObjectMapper objectMapper,
+                                @Value("${expense.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    // CSV 내보내기 (가져오기와 같은 헤더)
+    public void exportCsv(Long userSeq, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", ExpenseCsv.COLUMNS));
+        writer.write('\n');
+
+        StringBuilder line = new StringBuilder(128);
+        query(userSeq, from, to, rs -> {
+            line.setLength(0);
+            line.append(rs.getDate("date").toLocalDate()).append(',')
+                    .append(rs.getString("category")).append(',')
+                    .append(rs.getBigDecimal("amount").toPlainString()).append(',')
+                    .append(rs.getString("currency")).append(',');
+            ExpenseCsv.appendField(line, rs.getString("memo"));
+            line.append('\n');
+            writer.append(line);
+        });
+        writer.flush();
+    }
+
+    // NDJSON 내보내기 (한 줄에 지출 하나)
+    public void exportNdjson(Long userSeq, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            query(userSeq, from, to, rs -> writer.write(ExpenseResponse.builder()
+                    .seq(rs.getLong("seq"))
+                    .amount(rs.getBigDecimal("amount"))
+                    .currency(rs.getString("currency"))
+                    .category(ExpenseCategory.valueOf(rs.getString("category")))
+                    .memo(rs.getString("memo"))
+                    .date(rs.getDate("date").toLocalDate())
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build()));
+        }
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private void query(Long userSeq, LocalDate from, LocalDate to, RowWriter rowWriter) throws IOException {
+        try {
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, userSeq, Date.valueOf(from), Date.valueOf(to));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.travelerApp.demo.domain.expense.dto.ExpenseRequest;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import com.travelerApp.demo.domain.sync.service.SyncVersionAllocator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+// 지출 대량 가져오기
+// 트랜잭션 밖에서 요청 본문을 한 줄씩 읽고 검증해 임시 파일에 기록 (업로드 동안 DB 연결·사용자 잠금을 잡지 않음)
+// 다 읽은 뒤 짧은 트랜잭션에서 임시 파일을 배치 단위로 JDBC INSERT (메모리는 배치 크기만큼만 사용)
+// 한 줄이라도 잘못되면 아무것도 저장하지 않음
+@Slf4j
+@Service
+public class ExpenseImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO expenses (user_seq, amount, currency, category, memo, date, version, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int VERSION_INDEX = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ExpenseSummaryUpdater expenseSummaryUpdater;
+    private final SyncVersionAllocator syncVersionAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ExpenseImportService(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                ExpenseSummaryUpdater expenseSummaryUpdater,
+                                SyncVersionAllocator syncVersionAllocator,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${expense.import.batch-size:1000}") int batchSize,
+                                @Value("${expense.import.max-rows:100000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.expenseSummaryUpdater = expenseSummaryUpdater;
+        this.syncVersionAllocator = syncVersionAllocator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    // CSV 가져오기 (첫 줄은 헤더, 열 순서 자유, memo·currency 생략 가능)
+    public int importCsv(Long userSeq, InputStream body) throws IOException {
+        try (Staging staging = new Staging()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            int[] columns = columnIndexes(ExpenseCsv.parseLine(stripBom(header)));
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                staging.add(lineNumber, toRequest(lineNumber, line, columns));
+            }
+            return insert(userSeq, staging);
+        }
+    }
+
+    // NDJSON 가져오기 (한 줄에 ExpenseRequest 하나)
+    public int importNdjson(Long userSeq, InputStream body) throws IOException {
+        try (Staging staging = new Staging();
+             MappingIterator<ExpenseRequest> rows = objectMapper.readerFor(ExpenseRequest.class).readValues(body)) {
+            int lineNumber = 0;
+            while (true) {
+                lineNumber++;
+                ExpenseRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄: 형식이 올바르지 않습니다.");
+                }
+                staging.add(lineNumber, request);
+            }
+            return insert(userSeq, staging);
+        }
+    }
+
+    // 검증을 마친 임시 파일을 한 트랜잭션에서 저장 (사용자 잠금은 이 구간에서만 유지)
+    private int insert(Long userSeq, Staging staging) throws IOException {
+        Path file = staging.finish();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertStaged(userSeq, file, staging.delta));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.debug("지출 {}건 가져오기 완료: userSeq={}", staging.count, userSeq);
+        return staging.count;
+    }
+
+    private void insertStaged(Long userSeq, Path file, ExpenseSummaryDelta delta) {
+        expenseSummaryUpdater.lockUser(userSeq);
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        try (MappingIterator<ExpenseRequest> staged = objectMapper.readerFor(ExpenseRequest.class).readValues(file.toFile())) {
+            while (staged.hasNextValue()) {
+                ExpenseRequest request = staged.nextValue();
+                rows.add(new Object[]{userSeq, request.getAmount(), request.getCurrency(), request.getCategory().name(),
+                        request.getMemo(), Date.valueOf(request.getDate()), null, createdAt});
+                if (rows.size() == batchSize) {
+                    flush(userSeq, rows);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        flush(userSeq, rows);
+        expenseSummaryUpdater.apply(userSeq, delta);
+    }
+
+    private void flush(Long userSeq, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            // 배치마다 연속된 동기화 버전 예약
+            long version = syncVersionAllocator.reserve(userSeq, rows.size()) - rows.size();
+            for (Object[] row : rows) {
+                row[VERSION_INDEX] = ++version;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            rows.clear();
+        }
+    }
+
+    // 헤더 이름 → 열 위치 (없는 열은 -1)
+    private static int[] columnIndexes(List<String> header) {
+        List<String> names = header.stream().map(name -> name.trim().toLowerCase()).toList();
+        int[] indexes = Arrays.stream(ExpenseCsv.COLUMNS).mapToInt(names::indexOf).toArray();
+        for (int i = 0; i < 3; i++) {
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 " + ExpenseCsv.COLUMNS[i] + " 열이 없습니다.");
+            }
+        }
+        return indexes;
+    }
+
+    private static ExpenseRequest toRequest(int lineNumber, String line, int[] columns) {
+        try {
+            List<String> fields = ExpenseCsv.parseLine(line);
+            String currency = field(fields, columns[3]);
+            return new ExpenseRequest(
+                    new BigDecimal(field(fields, columns[2])),
+                    currency == null ? "KRW" : currency,
+                    ExpenseCategory.valueOf(field(fields, columns[1])),
+                    field(fields, columns[4]),
+                    LocalDate.parse(field(fields, columns[0])));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄: 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    // 검증된 행의 임시 파일 + 합계 변화량 (가져오기 1회 단위, 닫으면 파일 삭제)
+    private class Staging implements AutoCloseable {
+
+        private final Path file;
+        private final SequenceWriter writer;
+        private final ExpenseSummaryDelta delta = new ExpenseSummaryDelta();
+        private int count;
+
+        Staging() throws IOException {
+            this.file = Files.createTempFile("expense-import-", ".ndjson");
+            this.writer = objectMapper.writerFor(ExpenseRequest.class).writeValues(file.toFile());
+        }
+
+        void add(int lineNumber, ExpenseRequest request) throws IOException {
+            validate(lineNumber, request);
+
+            if (++count > maxRows) {
+                throw new IllegalArgumentException("한 번에 " + maxRows + "건까지 가져올 수 있습니다.");
+            }
+
+            writer.write(request);
+            delta.add(request.getDate(), request.getCategory(), request.getCurrency(), request.getAmount(), 1);
+        }
+
+        Path finish() throws IOException {
+            writer.close();
+            return file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        private void validate(int lineNumber, ExpenseRequest request) {
+            Set<ConstraintViolation<ExpenseRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: " + violations.iterator().next().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.travelerApp.demo.domain.expense.dto.ExpenseRequest;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.dto.ExpenseSummaryResponse;
+import com.travelerApp.demo.domain.expense.entity.Expense;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategoryTotal;
+import com.travelerApp.demo.domain.expense.repository.ExpenseCategoryTotalRepository;
+import com.travelerApp.demo.domain.expense.repository.ExpenseDailyTotalRepository;
+import com.travelerApp.demo.domain.expense.repository.ExpenseRepository;
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import com.travelerApp.demo.domain.sync.service.SyncTombstoneWriter;
+import com.travelerApp.demo.domain.sync.service.SyncVersionAllocator;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExpenseService {
+
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseDailyTotalRepository expenseDailyTotalRepository;
+    private final ExpenseCategoryTotalRepository expenseCategoryTotalRepository;
+    private final UserRepository userRepository;
+    private final ExpenseSummaryUpdater expenseSummaryUpdater;
+    private final SyncVersionAllocator syncVersionAllocator;
+    private final SyncTombstoneWriter syncTombstoneWriter;
+
+    // 기간별 지출 목록
+    public List<ExpenseResponse> getExpenses(Long userSeq, LocalDate from, LocalDate to) {
+        return expenseRepository.findByUserSeqAndDateBetweenOrderByDateDescSeqDesc(userSeq, from, to).stream()
+                .map(ExpenseResponse::from)
+                .toList();
+    }
+
+    // 지출 추가
+    @Transactional
+    public ExpenseResponse create(Long userSeq, ExpenseRequest request) {
+        long version = syncVersionAllocator.next(userSeq); // users 행 잠금 겸용
+
+        Expense expense = Expense.builder()
+                .user(userRepository.getReferenceById(userSeq))
+                .amount(request.getAmount())
+                .currency(request.getCurrency())
+                .category(request.getCategory())
+                .memo(request.getMemo())
+                .date(request.getDate())
+                .version(version)
+                .build();
+        expenseRepository.save(expense);
+
+        expenseSummaryUpdater.added(userSeq, expense);
+        return ExpenseResponse.from(expense);
+    }
+
+    // 지출 수정 (이전 값을 빼고 새 값을 더함)
+    @Transactional
+    public ExpenseResponse update(Long userSeq, Long expenseSeq, ExpenseRequest request) {
+        long version = syncVersionAllocator.next(userSeq);
+        Expense expense = findExpense(userSeq, expenseSeq);
+
+        expenseSummaryUpdater.removed(userSeq, expense);
+        expense.update(request.getAmount(), request.getCurrency(), request.getCategory(),
+                request.getMemo(), request.getDate(), version);
+        expenseSummaryUpdater.added(userSeq, expense);
+        return ExpenseResponse.from(expense);
+    }
+
+    // 지출 삭제
+    @Transactional
+    public void delete(Long userSeq, Long expenseSeq) {
+        long version = syncVersionAllocator.next(userSeq);
+        Expense expense = findExpense(userSeq, expenseSeq);
+
+        expenseSummaryUpdater.removed(userSeq, expense);
+        expenseRepository.delete(expense);
+        syncTombstoneWriter.deleted(userSeq, SyncEntityType.EXPENSE, expenseSeq, version);
+    }
+
+    // 요약 (합계 테이블만 읽으므로 지출 건수와 무관)
+    public ExpenseSummaryResponse getSummary(Long userSeq, LocalDate from, LocalDate to) {
+        List<ExpenseCategoryTotal> categoryTotals = expenseCategoryTotalRepository.findByUserSeqOrderByCategoryAscCurrencyAsc(userSeq);
+
+        // 통화별 합계는 카테고리 합계에서 계산
+        Map<String, ExpenseSummaryResponse.CurrencyTotal> byCurrency = new TreeMap<>();
+        for (ExpenseCategoryTotal total : categoryTotals) {
+            byCurrency.merge(total.getCurrency(),
+                    ExpenseSummaryResponse.CurrencyTotal.builder()
+                            .currency(total.getCurrency())
+                            .total(total.getTotal())
+                            .count(total.getExpenseCount())
+                            .build(),
+                    (a, b) -> ExpenseSummaryResponse.CurrencyTotal.builder()
+                            .currency(a.getCurrency())
+                            .total(a.getTotal().add(b.getTotal()))
+                            .count(a.getCount() + b.getCount())
+                            .build());
+        }
+
+        return ExpenseSummaryResponse.builder()
+                .byCurrency(List.copyOf(byCurrency.values()))
+                .byCategory(categoryTotals.stream()
+                        .map(total -> ExpenseSummaryResponse.CategoryTotal.builder()
+                                .category(total.getCategory())
+                                .currency(total.getCurrency())
+                                .total(total.getTotal())
+                                .count(total.getExpenseCount())
+                                .build())
+                        .toList())
+                .byDay(expenseDailyTotalRepository.findByUserSeqAndDateBetweenOrderByDateAscCurrencyAsc(userSeq, from, to).stream()
+                        .map(total -> ExpenseSummaryResponse.DailyTotal.builder()
+                                .date(total.getDate())
+                                .currency(total.getCurrency())
+                                .total(total.getTotal())
+                                .count(total.getExpenseCount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private Expense findExpense(Long userSeq, Long expenseSeq) {
+        return expenseRepository.findBySeqAndUserSeq(expenseSeq, userSeq)
+                .orElseThrow(() -> new IllegalArgumentException("지출 기록을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,42 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+// 여러 지출의 합계 변화량을 키별로 모음 (대량 가져오기 후 한 번에 반영)
+class ExpenseSummaryDelta {
+
+    record DailyKey(LocalDate date, String currency) {
+    }
+
+    record CategoryKey(ExpenseCategory category, String currency) {
+    }
+
+    record Change(BigDecimal amount, int count) {
+
+        Change plus(Change other) {
+            return new Change(amount.add(other.amount), count + other.count);
+        }
+    }
+
+    private final Map<DailyKey, Change> daily = new HashMap<>();
+    private final Map<CategoryKey, Change> category = new HashMap<>();
+
+    void add(LocalDate date, ExpenseCategory expenseCategory, String currency, BigDecimal amount, int count) {
+        Change change = new Change(amount, count);
+        daily.merge(new DailyKey(date, currency), change, Change::plus);
+        category.merge(new CategoryKey(expenseCategory, currency), change, Change::plus);
+    }
+
+    Map<DailyKey, Change> getDaily() {
+        return daily;
+    }
+
+    Map<CategoryKey, Change> getCategory() {
+        return category;
+    }
+}
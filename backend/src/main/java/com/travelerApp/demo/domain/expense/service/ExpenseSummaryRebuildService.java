@@ -0,0 +1,58 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 지출 합계 테이블 전체 재계산 (증분 갱신 누락·버그 복구용, 사용자마다 짧은 트랜잭션)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpenseSummaryRebuildService {
+
+    private static final String USERS_SQL =
+            "SELECT user_seq FROM expenses UNION SELECT user_seq FROM expense_daily_totals "
+                    + "UNION SELECT user_seq FROM expense_category_totals";
+
+    private static final String DELETE_DAILY_SQL = "DELETE FROM expense_daily_totals WHERE user_seq = ?";
+    private static final String DELETE_CATEGORY_SQL = "DELETE FROM expense_category_totals WHERE user_seq = ?";
+
+    private static final String REBUILD_DAILY_SQL =
+            "INSERT INTO expense_daily_totals (user_seq, date, currency, total, expense_count) "
+                    + "SELECT user_seq, date, currency, SUM(amount), COUNT(*) FROM expenses "
+                    + "WHERE user_seq = ? GROUP BY user_seq, date, currency";
+    private static final String REBUILD_CATEGORY_SQL =
+            "INSERT INTO expense_category_totals (user_seq, category, currency, total, expense_count) "
+                    + "SELECT user_seq, category, currency, SUM(amount), COUNT(*) FROM expenses "
+                    + "WHERE user_seq = ? GROUP BY user_seq, category, currency";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpenseSummaryUpdater expenseSummaryUpdater;
+
+    // 전체 사용자 재계산 (기본 비활성, 필요 시 cron 지정)
+    @Scheduled(cron = "${expense.summary.rebuild-cron:-}")
+    public void rebuildAll() {
+        List<Long> userSeqs = jdbcTemplate.queryForList(USERS_SQL, Long.class);
+        for (Long userSeq : userSeqs) {
+            rebuild(userSeq);
+        }
+        log.info("지출 합계 재계산 완료: 사용자 {}명", userSeqs.size());
+    }
+
+    // 사용자 1명 재계산 (지출 변경과 같은 잠금을 잡고 삭제 후 다시 집계)
+    public void rebuild(Long userSeq) {
+        transactionTemplate.executeWithoutResult(status -> {
+            expenseSummaryUpdater.lockUser(userSeq);
+            jdbcTemplate.update(DELETE_DAILY_SQL, userSeq);
+            jdbcTemplate.update(DELETE_CATEGORY_SQL, userSeq);
+            jdbcTemplate.update(REBUILD_DAILY_SQL, userSeq);
+            jdbcTemplate.update(REBUILD_CATEGORY_SQL, userSeq);
+        });
+    }
+}
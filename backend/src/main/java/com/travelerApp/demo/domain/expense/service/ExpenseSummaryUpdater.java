@@ -0,0 +1,89 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.travelerApp.demo.domain.expense.entity.Expense;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+// 지출 합계 테이블 증분 갱신 (지출 변경과 같은 트랜잭션에서 실행)
+// 같은 사용자의 지출 변경·재계산은 users 행 잠금으로 직렬화
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ExpenseSummaryUpdater {
+
+    private static final String LOCK_USER_SQL = "SELECT seq FROM users WHERE seq = ? FOR UPDATE";
+
+    private static final String UPDATE_DAILY_SQL =
+            "UPDATE expense_daily_totals SET total = total + ?, expense_count = expense_count + ? "
+                    + "WHERE user_seq = ? AND date = ? AND currency = ?";
+    private static final String INSERT_DAILY_SQL =
+            "INSERT INTO expense_daily_totals (user_seq, date, currency, total, expense_count) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_EMPTY_DAILY_SQL =
+            "DELETE FROM expense_daily_totals WHERE user_seq = ? AND date = ? AND currency = ? AND expense_count <= 0";
+
+    private static final String UPDATE_CATEGORY_SQL =
+            "UPDATE expense_category_totals SET total = total + ?, expense_count = expense_count + ? "
+                    + "WHERE user_seq = ? AND category = ? AND currency = ?";
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT INTO expense_category_totals (user_seq, category, currency, total, expense_count) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_EMPTY_CATEGORY_SQL =
+            "DELETE FROM expense_category_totals WHERE user_seq = ? AND category = ? AND currency = ? AND expense_count <= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사용자 단위 잠금 (트랜잭션 종료 시 해제)
+    public void lockUser(Long userSeq) {
+        jdbcTemplate.queryForList(LOCK_USER_SQL, Long.class, userSeq);
+    }
+
+    public void added(Long userSeq, Expense expense) {
+        apply(userSeq, expense.getDate(), expense.getCategory(), expense.getCurrency(), expense.getAmount(), 1);
+    }
+
+    public void removed(Long userSeq, Expense expense) {
+        apply(userSeq, expense.getDate(), expense.getCategory(), expense.getCurrency(), expense.getAmount().negate(), -1);
+    }
+
+    // 여러 건의 변화량을 키별로 한 번씩 반영
+    public void apply(Long userSeq, ExpenseSummaryDelta delta) {
+        delta.getDaily().forEach((key, change) ->
+                applyDaily(userSeq, key.date(), key.currency(), change.amount(), change.count()));
+        delta.getCategory().forEach((key, change) ->
+                applyCategory(userSeq, key.category(), key.currency(), change.amount(), change.count()));
+    }
+
+    private void apply(Long userSeq, LocalDate date, ExpenseCategory category, String currency,
+                       BigDecimal amount, int count) {
+        applyDaily(userSeq, date, currency, amount, count);
+        applyCategory(userSeq, category, currency, amount, count);
+    }
+
+    // 일자별 합계에 변화량 반영 (행이 없으면 생성, 건수가 0이 되면 삭제)
+    private void applyDaily(Long userSeq, LocalDate date, String currency, BigDecimal amount, int count) {
+        Date sqlDate = Date.valueOf(date);
+        if (jdbcTemplate.update(UPDATE_DAILY_SQL, amount, count, userSeq, sqlDate, currency) == 0) {
+            jdbcTemplate.update(INSERT_DAILY_SQL, userSeq, sqlDate, currency, amount, count);
+        }
+        if (count < 0) {
+            jdbcTemplate.update(DELETE_EMPTY_DAILY_SQL, userSeq, sqlDate, currency);
+        }
+    }
+
+    // 카테고리별 합계에 변화량 반영
+    private void applyCategory(Long userSeq, ExpenseCategory category, String currency, BigDecimal amount, int count) {
+        if (jdbcTemplate.update(UPDATE_CATEGORY_SQL, amount, count, userSeq, category.name(), currency) == 0) {
+            jdbcTemplate.update(INSERT_CATEGORY_SQL, userSeq, category.name(), currency, amount, count);
+        }
+        if (count < 0) {
+            jdbcTemplate.update(DELETE_EMPTY_CATEGORY_SQL, userSeq, category.name(), currency);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.travelerApp.demo.domain.schedule.controller;
+
+import com.travelerApp.demo.domain.schedule.dto.ScheduleRequest;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleResponse;
+import com.travelerApp.demo.domain.schedule.service.ScheduleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/schedules")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ScheduleService scheduleService;
+
+    // 일정 목록 (기간 미지정 시 전체)
+    @GetMapping
+    public ResponseEntity<List<ScheduleResponse>> getSchedules(
+            Authentication authentication,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(scheduleService.getSchedules((Long) authentication.getPrincipal(),
+                from != null ? from : MIN_DATE, to != null ? to : MAX_DATE));
+    }
+
+    // 일정 추가
+    @PostMapping
+    public ResponseEntity<ScheduleResponse> create(Authentication authentication,
+                                                   @Valid @RequestBody ScheduleRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(scheduleService.create((Long) authentication.getPrincipal(), request));
+    }
+
+    // 일정 수정
+    @PutMapping("/{id}")
+    public ResponseEntity<ScheduleResponse> update(Authentication authentication,
+                                                   @PathVariable("id") Long id,
+                                                   @Valid @RequestBody ScheduleRequest request) {
+        return ResponseEntity.ok(scheduleService.update((Long) authentication.getPrincipal(), id, request));
+    }
+
+    // 일정 삭제
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication authentication, @PathVariable("id") Long id) {
+        scheduleService.delete((Long) authentication.getPrincipal(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
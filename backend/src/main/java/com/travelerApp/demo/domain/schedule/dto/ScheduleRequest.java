@@ -0,0 +1,29 @@
+package com.travelerApp.demo.domain.schedule.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequest {
+
+    @NotBlank(message = "일정 제목은 필수입니다.")
+    @Size(max = 255, message = "일정 제목은 255자 이하여야 합니다.")
+    private String title;
+
+    @Size(max = 255, message = "도시명은 255자 이하여야 합니다.")
+    private String cityName;
+
+    @NotNull(message = "일정 날짜는 필수입니다.")
+    private LocalDate date;
+
+    @Size(max = 10000, message = "메모는 10000자 이하여야 합니다.")
+    private String memo;
+}
@@ -0,0 +1,31 @@
+package com.travelerApp.demo.domain.schedule.dto;
+
+import com.travelerApp.demo.domain.schedule.entity.Schedule;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ScheduleResponse {
+
+    private Long seq;
+    private String title;
+    private String cityName;
+    private LocalDate date;
+    private String memo;
+    private LocalDateTime createdAt;
+
+    public static ScheduleResponse from(Schedule schedule) {
+        return ScheduleResponse.builder()
+                .seq(schedule.getSeq())
+                .title(schedule.getTitle())
+                .cityName(schedule.getCityName())
+                .date(schedule.getDate())
+                .memo(schedule.getMemo())
+                .createdAt(schedule.getCreatedAt())
+                .build();
+    }
+}
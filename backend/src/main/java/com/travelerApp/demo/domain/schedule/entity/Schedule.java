@@ -0,0 +1,71 @@
+package com.travelerApp.demo.domain.schedule.entity;
+
+import com.travelerApp.demo.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "schedules",
+        indexes = {
+                @Index(name = "idx_schedules_user_date", columnList = "user_seq, date"),
+                @Index(name = "idx_schedules_user_version", columnList = "user_seq, version")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Schedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_seq", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String cityName; // 방문 도시
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(columnDefinition = "TEXT")
+    private String memo;
+
+    @Column(nullable = false)
+    private Long version; // 동기화 버전
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public Schedule(User user, String title, String cityName, LocalDate date, String memo, Long version) {
+        this.user = user;
+        this.title = title;
+        this.cityName = cityName;
+        this.date = date;
+        this.memo = memo;
+        this.version = version;
+    }
+
+    // 일정 수정
+    public void update(String title, String cityName, LocalDate date, String memo, Long version) {
+        this.title = title;
+        this.cityName = cityName;
+        this.date = date;
+        this.memo = memo;
+        this.version = version;
+    }
+}
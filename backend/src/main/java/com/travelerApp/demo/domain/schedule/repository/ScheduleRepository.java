@@ -0,0 +1,23 @@
+package com.travelerApp.demo.domain.schedule.repository;
+
+import com.travelerApp.demo.domain.schedule.entity.Schedule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    // 기간별 일정 (idx_schedules_user_date)
+    List<Schedule> findByUserSeqAndDateBetweenOrderByDateAscSeqAsc(Long userSeq, LocalDate from, LocalDate to);
+
+    @Query("SELECT s FROM Schedule s WHERE s.seq = :seq AND s.user.seq = :userSeq")
+    Optional<Schedule> findBySeqAndUserSeq(@Param("seq") Long seq, @Param("userSeq") Long userSeq);
+
+    // 커서 이후 변경분 (idx_schedules_user_version)
+    List<Schedule> findByUserSeqAndVersionGreaterThanOrderByVersionAsc(Long userSeq, Long version, Pageable pageable);
+}
@@ -0,0 +1,71 @@
+package com.travelerApp.demo.domain.schedule.service;
+
+import com.travelerApp.demo.domain.schedule.dto.ScheduleRequest;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleResponse;
+import com.travelerApp.demo.domain.schedule.entity.Schedule;
+import com.travelerApp.demo.domain.schedule.repository.ScheduleRepository;
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import com.travelerApp.demo.domain.sync.service.SyncTombstoneWriter;
+import com.travelerApp.demo.domain.sync.service.SyncVersionAllocator;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final SyncVersionAllocator syncVersionAllocator;
+    private final SyncTombstoneWriter syncTombstoneWriter;
+
+    // 기간별 일정 목록
+    public List<ScheduleResponse> getSchedules(Long userSeq, LocalDate from, LocalDate to) {
+        return scheduleRepository.findByUserSeqAndDateBetweenOrderByDateAscSeqAsc(userSeq, from, to).stream()
+                .map(ScheduleResponse::from)
+                .toList();
+    }
+
+    // 일정 추가
+    @Transactional
+    public ScheduleResponse create(Long userSeq, ScheduleRequest request) {
+        Schedule schedule = Schedule.builder()
+                .user(userRepository.getReferenceById(userSeq))
+                .title(request.getTitle())
+                .cityName(request.getCityName())
+                .date(request.getDate())
+                .memo(request.getMemo())
+                .version(syncVersionAllocator.next(userSeq))
+                .build();
+        return ScheduleResponse.from(scheduleRepository.save(schedule));
+    }
+
+    // 일정 수정
+    @Transactional
+    public ScheduleResponse update(Long userSeq, Long scheduleSeq, ScheduleRequest request) {
+        long version = syncVersionAllocator.next(userSeq);
+        Schedule schedule = findSchedule(userSeq, scheduleSeq);
+        schedule.update(request.getTitle(), request.getCityName(), request.getDate(), request.getMemo(), version);
+        return ScheduleResponse.from(schedule);
+    }
+
+    // 일정 삭제
+    @Transactional
+    public void delete(Long userSeq, Long scheduleSeq) {
+        long version = syncVersionAllocator.next(userSeq);
+        Schedule schedule = findSchedule(userSeq, scheduleSeq);
+        scheduleRepository.delete(schedule);
+        syncTombstoneWriter.deleted(userSeq, SyncEntityType.SCHEDULE, scheduleSeq, version);
+    }
+
+    private Schedule findSchedule(Long userSeq, Long scheduleSeq) {
+        return scheduleRepository.findBySeqAndUserSeq(scheduleSeq, userSeq)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
+    }
+}
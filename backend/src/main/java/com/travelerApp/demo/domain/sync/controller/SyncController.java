@@ -0,0 +1,30 @@
+package com.travelerApp.demo.domain.sync.controller;
+
+import com.travelerApp.demo.domain.sync.dto.SyncResponse;
+import com.travelerApp.demo.domain.sync.service.SyncService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // 커서 이후 변경분 (처음에는 cursor=0, 이어지는 페이지는 응답의 cursor·snapshotVersion을 그대로 보냄)
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(Authentication authentication,
+                                             @RequestParam(value = "cursor", defaultValue = "0") long cursor,
+                                             @RequestParam(value = "snapshotVersion", defaultValue = "0") long snapshotVersion,
+                                             @RequestParam(value = "limit", defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        return ResponseEntity.ok(syncService.getChanges((Long) authentication.getPrincipal(), cursor, snapshotVersion, limit));
+    }
+}
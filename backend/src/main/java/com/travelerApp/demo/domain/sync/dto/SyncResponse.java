@@ -0,0 +1,32 @@
+package com.travelerApp.demo.domain.sync.dto;
+
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleResponse;
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 이후 변경분 (추가·수정된 행은 최신 상태, 삭제된 행은 deleted)
+@Getter
+@Builder
+public class SyncResponse {
+
+    private long cursor;              // 다음 요청에 보낼 커서
+    private long snapshotVersion;     // 전체 동기화 도중이면 다음 요청에 그대로 보냄 (끝나면 0)
+    private boolean hasMore;          // 남은 변경분이 있으면 바로 다시 요청
+    private boolean resetRequired;    // 커서가 너무 오래됨, 로컬 데이터를 지우고 커서 0부터 다시 동기화
+    private List<CityResponse> cities;
+    private List<ExpenseResponse> expenses;
+    private List<ScheduleResponse> schedules;
+    private List<Deleted> deleted;
+
+    @Getter
+    @Builder
+    public static class Deleted {
+        private SyncEntityType type;
+        private Long seq;
+    }
+}
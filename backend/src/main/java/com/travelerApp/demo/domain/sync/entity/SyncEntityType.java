@@ -0,0 +1,7 @@
+package com.travelerApp.demo.domain.sync.entity;
+
+public enum SyncEntityType {
+    CITY,       // 즐겨찾기 도시
+    EXPENSE,    // 지출 기록
+    SCHEDULE    // 여행 일정
+}
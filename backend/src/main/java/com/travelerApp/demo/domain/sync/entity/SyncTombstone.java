@@ -0,0 +1,54 @@
+package com.travelerApp.demo.domain.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제 기록 (동기화 시 클라이언트에 삭제를 알리고 보관 기간 후 제거)
+@Entity
+@Table(name = "sync_tombstones",
+        indexes = {
+                @Index(name = "idx_sync_tombstones_user_version", columnList = "user_seq, version"),
+                @Index(name = "idx_sync_tombstones_deleted_at", columnList = "deleted_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "user_seq", nullable = false)
+    private Long userSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entitySeq; // 삭제된 행의 seq
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public SyncTombstone(Long userSeq, SyncEntityType entityType, Long entitySeq, Long version) {
+        this.userSeq = userSeq;
+        this.entityType = entityType;
+        this.entitySeq = entitySeq;
+        this.version = version;
+    }
+}
@@ -0,0 +1,25 @@
+package com.travelerApp.demo.domain.sync.repository;
+
+import com.travelerApp.demo.domain.sync.entity.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // 커서 이후 삭제 기록
+    List<SyncTombstone> findByUserSeqAndVersionGreaterThanOrderByVersionAsc(Long userSeq, Long version, Pageable pageable);
+
+    // 보관 기간이 지난 삭제 기록
+    @Query("SELECT t FROM SyncTombstone t WHERE t.deletedAt < :before ORDER BY t.seq")
+    List<SyncTombstone> findExpired(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.seq IN :seqs")
+    int deleteBySeqIn(@Param("seqs") List<Long> seqs);
+}
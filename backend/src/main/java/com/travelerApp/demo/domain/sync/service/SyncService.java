@@ -0,0 +1,109 @@
+package com.travelerApp.demo.domain.sync.service;
+
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.city.repository.CityRepository;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.repository.ExpenseRepository;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleResponse;
+import com.travelerApp.demo.domain.schedule.repository.ScheduleRepository;
+import com.travelerApp.demo.domain.sync.dto.SyncResponse;
+import com.travelerApp.demo.domain.sync.repository.SyncTombstoneRepository;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 변경분 동기화 (테이블마다 (user_seq, version) 인덱스로 커서 이후만 읽어 버전 순으로 합침)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final UserRepository userRepository;
+    private final CityRepository cityRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    private record Change(long version, Object item) {
+    }
+
+    // snapshotVersion: 커서 0부터 시작한 전체 동기화 도중이면 시작 시점의 동기화 버전 (응답 값을 그대로 다시 보냄)
+    public SyncResponse getChanges(Long userSeq, long cursor, long snapshotVersion, int limit) {
+        User user = userRepository.findById(userSeq)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        // 시작 시점까지의 삭제는 받은 적 없는 행이므로 삭제 기록 없이도 그 버전까지는 따라잡은 상태
+        long snapshot = cursor == 0 ? user.getSyncVersion() : snapshotVersion;
+        long caughtUp = Math.max(cursor, snapshot);
+
+        // 삭제 기록이 이미 정리된 구간이거나 서버보다 앞선 커서
+        if (cursor < 0 || snapshot < 0 || (cursor > 0 && caughtUp < user.getSyncFloorVersion())
+                || cursor > user.getSyncVersion() || snapshot > user.getSyncVersion()) {
+            return SyncResponse.builder()
+                    .cursor(0)
+                    .resetRequired(true)
+                    .cities(List.of())
+                    .expenses(List.of())
+                    .schedules(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        // 테이블마다 limit + 1건씩 읽고 버전 순으로 limit건만 사용
+        Pageable pageable = Pageable.ofSize(limit + 1);
+        List<Change> changes = new ArrayList<>();
+        cityRepository.findByUserSeqAndVersionGreaterThanOrderByVersionAsc(userSeq, cursor, pageable)
+                .forEach(city -> changes.add(new Change(city.getVersion(), CityResponse.from(city))));
+        expenseRepository.findByUserSeqAndVersionGreaterThanOrderByVersionAsc(userSeq, cursor, pageable)
+                .forEach(expense -> changes.add(new Change(expense.getVersion(), ExpenseResponse.from(expense))));
+        scheduleRepository.findByUserSeqAndVersionGreaterThanOrderByVersionAsc(userSeq, cursor, pageable)
+                .forEach(schedule -> changes.add(new Change(schedule.getVersion(), ScheduleResponse.from(schedule))));
+
+        // 처음 동기화는 삭제 기록이 필요 없음
+        if (cursor > 0) {
+            syncTombstoneRepository.findByUserSeqAndVersionGreaterThanOrderByVersionAsc(userSeq, caughtUp, pageable)
+                    .forEach(tombstone -> changes.add(new Change(tombstone.getVersion(), SyncResponse.Deleted.builder()
+                            .type(tombstone.getEntityType())
+                            .seq(tombstone.getEntitySeq())
+                            .build())));
+        }
+
+        changes.sort(Comparator.comparingLong(Change::version));
+        boolean hasMore = changes.size() > limit;
+        List<Change> included = hasMore ? changes.subList(0, limit) : changes;
+
+        List<CityResponse> cities = new ArrayList<>();
+        List<ExpenseResponse> expenses = new ArrayList<>();
+        List<ScheduleResponse> schedules = new ArrayList<>();
+        List<SyncResponse.Deleted> deleted = new ArrayList<>();
+        for (Change change : included) {
+            if (change.item() instanceof CityResponse city) {
+                cities.add(city);
+            } else if (change.item() instanceof ExpenseResponse expense) {
+                expenses.add(expense);
+            } else if (change.item() instanceof ScheduleResponse schedule) {
+                schedules.add(schedule);
+            } else {
+                deleted.add((SyncResponse.Deleted) change.item());
+            }
+        }
+
+        long nextCursor = included.isEmpty() ? cursor : included.get(included.size() - 1).version();
+        return SyncResponse.builder()
+                .cursor(nextCursor)
+                .snapshotVersion(hasMore && snapshot > nextCursor ? snapshot : 0)
+                .hasMore(hasMore)
+                .cities(cities)
+                .expenses(expenses)
+                .schedules(schedules)
+                .deleted(deleted)
+                .build();
+    }
+}
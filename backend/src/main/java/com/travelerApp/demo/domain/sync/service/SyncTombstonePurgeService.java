@@ -0,0 +1,85 @@
+package com.travelerApp.demo.domain.sync.service;
+
+import com.travelerApp.demo.domain.sync.entity.SyncTombstone;
+import com.travelerApp.demo.domain.sync.repository.SyncTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 보관 기간이 지난 삭제 기록 정리
+// 지운 기록의 최대 버전을 users.sync_floor_version에 남겨 그보다 오래된 커서는 전체 동기화하게 함
+@Slf4j
+@Service
+public class SyncTombstonePurgeService {
+
+    private static final String RAISE_FLOOR_SQL =
+            "UPDATE users SET sync_floor_version = GREATEST(sync_floor_version, ?) WHERE seq = ?";
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public SyncTombstonePurgeService(SyncTombstoneRepository syncTombstoneRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${sync.tombstone-purge.retention:30d}") Duration retention,
+                                     @Value("${sync.tombstone-purge.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalStateException("sync.tombstone-purge.batch-size 는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${sync.tombstone-purge.cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = purgeBatch(before);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("삭제 기록 {}건 정리", total);
+        }
+    }
+
+    // 배치 1회 (하한 버전 갱신 + 삭제를 하나의 트랜잭션으로)
+    private int purgeBatch(LocalDateTime before) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<SyncTombstone> tombstones = syncTombstoneRepository.findExpired(before, PageRequest.of(0, batchSize));
+            if (tombstones.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Long> floors = new HashMap<>();
+            for (SyncTombstone tombstone : tombstones) {
+                floors.merge(tombstone.getUserSeq(), tombstone.getVersion(), Math::max);
+            }
+            jdbcTemplate.batchUpdate(RAISE_FLOOR_SQL, floors.entrySet().stream()
+                    .map(floor -> new Object[]{floor.getValue(), floor.getKey()})
+                    .toList());
+
+            return syncTombstoneRepository.deleteBySeqIn(tombstones.stream().map(SyncTombstone::getSeq).toList());
+        });
+        return deleted != null ? deleted : 0;
+    }
+}
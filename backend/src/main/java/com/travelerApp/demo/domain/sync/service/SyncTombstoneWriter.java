@@ -0,0 +1,27 @@
+package com.travelerApp.demo.domain.sync.service;
+
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import com.travelerApp.demo.domain.sync.entity.SyncTombstone;
+import com.travelerApp.demo.domain.sync.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 삭제 기록 저장 (삭제와 같은 트랜잭션)
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class SyncTombstoneWriter {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    public void deleted(Long userSeq, SyncEntityType entityType, Long entitySeq, long version) {
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .userSeq(userSeq)
+                .entityType(entityType)
+                .entitySeq(entitySeq)
+                .version(version)
+                .build());
+    }
+}
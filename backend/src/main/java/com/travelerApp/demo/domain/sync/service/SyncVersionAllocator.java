@@ -0,0 +1,34 @@
+package com.travelerApp.demo.domain.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 사용자별 동기화 버전 발급 (users.sync_version을 올리면서 행 잠금을 잡음)
+// 잠금이 커밋까지 유지되므로 같은 사용자의 변경은 버전 순서대로 커밋됨
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class SyncVersionAllocator {
+
+    private static final String INCREMENT_SQL = "UPDATE users SET sync_version = sync_version + ? WHERE seq = ?";
+    private static final String SELECT_SQL = "SELECT sync_version FROM users WHERE seq = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 버전 1개
+    public long next(Long userSeq) {
+        return reserve(userSeq, 1);
+    }
+
+    // 연속된 버전 count개 예약, 마지막 버전 반환 (last - count + 1 ~ last)
+    public long reserve(Long userSeq, int count) {
+        if (jdbcTemplate.update(INCREMENT_SQL, count, userSeq) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        Long last = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, userSeq);
+        return last != null ? last : 0L;
+    }
+}
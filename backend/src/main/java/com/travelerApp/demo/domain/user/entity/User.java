@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -37,11 +38,27 @@ public class User {
 
     private LocalDateTime updatedAt;
 
-    private LocalDateTime lastLoginAt; // 마지막 로그인 일시
+    // 마지막 로그인 일시 (LastLoginRecorder만 갱신, 엔티티 UPDATE가 더 최신 값을 덮어쓰지 않도록 제외)
+    @Column(updatable = false)
+    private LocalDateTime lastLoginAt;
 
     @Column(nullable = false)
     private Boolean isActive = true; // 활성화 상태
 
+    // 모든 기기 로그아웃 일시 (이전에 발급된 Access Token 거절, AccessTokenDenylist가 SQL로만 갱신)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime tokensRevokedAt;
+
+    // 동기화 버전 (SyncVersionAllocator가 SQL로만 갱신, 엔티티 저장 시 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long syncVersion;
+
+    // 보관 기간이 지나 삭제된 삭제 기록의 최대 버전 (이보다 오래된 커서는 전체 동기화 필요)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long syncFloorVersion;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -75,11 +92,6 @@ public class User {
         this.password = password;
     }
 
-    // 마지막 로그인 시간 갱신
-    public void updateLastLoginAt() {
-        this.lastLoginAt = LocalDateTime.now();
-    }
-
     // 계정 활성화
     public void activate() {
         this.isActive = true;
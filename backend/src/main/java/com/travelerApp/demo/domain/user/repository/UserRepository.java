@@ -2,8 +2,15 @@ package com.travelerApp.demo.domain.user.repository;
 
 import com.travelerApp.demo.domain.user.entity.AuthProvider;
 import com.travelerApp.demo.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -16,4 +23,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // OAuth 제공자와 제공자 ID로 사용자 조회
     Optional<User> findByProviderAndProviderId(AuthProvider provider, String providerId);
+
+    // 사용자 행 잠금 조회 (SELECT ... FOR UPDATE, 같은 사용자의 세션 생성 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.seq = :seq")
+    Optional<User> findForUpdateBySeq(@Param("seq") Long seq);
+
+    // 모든 기기 로그아웃 일시 기록
+    @Modifying
+    @Query("UPDATE User u SET u.tokensRevokedAt = :revokedAt WHERE u.seq = :seq")
+    int updateTokensRevokedAt(@Param("seq") Long seq, @Param("revokedAt") LocalDateTime revokedAt);
+
+    // 모든 기기 로그아웃 일시 조회
+    @Query("SELECT u.tokensRevokedAt FROM User u WHERE u.seq = :seq")
+    Optional<LocalDateTime> findTokensRevokedAt(@Param("seq") Long seq);
+
+    // 기준 일시 이후 모든 기기 로그아웃한 사용자 (기동 시 폐기 목록 복원용)
+    List<User> findByTokensRevokedAtAfter(LocalDateTime since);
 }
@@ -0,0 +1,74 @@
+package com.travelerApp.demo.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마지막 로그인 시각 지연 기록 (메모리에 모았다가 주기적으로 일괄 UPDATE, 같은 사용자는 1건으로 합침)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    // updated_at은 건드리지 않고 더 최신 값일 때만 반영
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login_at = ? WHERE seq = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // userSeq → 마지막 로그인 시각 (flush 전까지 보관)
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // 로그인 시각 기록 (DB 쓰기 없음)
+    public void record(Long userSeq) {
+        record(userSeq, LocalDateTime.now());
+    }
+
+    // 모인 로그인 시각 일괄 반영
+    @Scheduled(fixedDelayString = "${user.last-login.flush-interval:30000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long userSeq : pending.keySet()) {
+            LocalDateTime lastLoginAt = pending.remove(userSeq);
+            if (lastLoginAt != null) {
+                Timestamp timestamp = Timestamp.valueOf(lastLoginAt);
+                batch.add(new Object[]{timestamp, userSeq, timestamp});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            log.debug("마지막 로그인 시각 {}건 반영", batch.size());
+        } catch (Exception e) {
+            // 실패한 항목은 다음 주기에 다시 시도 (그 사이 더 최신 로그인이 있으면 그 값 유지)
+            log.error("마지막 로그인 시각 반영 실패: {}", e.getMessage());
+            for (Object[] row : batch) {
+                record((Long) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+        }
+    }
+
+    // 종료 시 남은 기록 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    void record(Long userSeq, LocalDateTime lastLoginAt) {
+        pending.merge(userSeq, lastLoginAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+}
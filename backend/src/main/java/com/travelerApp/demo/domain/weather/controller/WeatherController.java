@@ -0,0 +1,39 @@
+package com.travelerApp.demo.domain.weather.controller;
+
+import com.travelerApp.demo.domain.weather.dto.CurrentWeatherResponse;
+import com.travelerApp.demo.domain.weather.dto.HourlyWeatherResponse;
+import com.travelerApp.demo.domain.weather.service.WeatherService;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/weather")
+@RequiredArgsConstructor
+public class WeatherController {
+
+    private final WeatherService weatherService;
+
+    // 현재 위치 날씨
+    @GetMapping("/current")
+    public CompletableFuture<ResponseEntity<CurrentWeatherResponse>> current(
+            @RequestParam("lat") @DecimalMin("-90") @DecimalMax("90") double latitude,
+            @RequestParam("lon") @DecimalMin("-180") @DecimalMax("180") double longitude) {
+        return weatherService.getCurrent(latitude, longitude).thenApply(ResponseEntity::ok);
+    }
+
+    // 시간대별 날씨
+    @GetMapping("/hourly")
+    public CompletableFuture<ResponseEntity<HourlyWeatherResponse>> hourly(
+            @RequestParam("lat") @DecimalMin("-90") @DecimalMax("90") double latitude,
+            @RequestParam("lon") @DecimalMin("-180") @DecimalMax("180") double longitude) {
+        return weatherService.getHourly(latitude, longitude).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,32 @@
+package com.travelerApp.demo.domain.weather.dto;
+
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CityWeatherResponse {
+
+    private Long citySeq;
+    private String name;
+    private String country;
+    private Status status;
+    private CurrentWeatherResponse weather; // OK 일 때만 채워짐
+
+    public enum Status {
+        OK,      // 조회 완료 (캐시 포함)
+        TIMEOUT, // 마감 시간 내 응답 없음
+        ERROR    // 외부 API 오류
+    }
+
+    public static CityWeatherResponse of(CityResponse city, Status status, CurrentWeatherResponse weather) {
+        return CityWeatherResponse.builder()
+                .citySeq(city.getSeq())
+                .name(city.getName())
+                .country(city.getCountry())
+                .status(status)
+                .weather(weather)
+                .build();
+    }
+}
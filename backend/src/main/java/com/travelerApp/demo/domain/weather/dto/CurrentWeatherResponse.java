@@ -0,0 +1,49 @@
+package com.travelerApp.demo.domain.weather.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder(toBuilder = true)
+public class CurrentWeatherResponse {
+
+    private String cityName;
+    private Double temperature;   // 섭씨
+    private Double feelsLike;
+    private Double minTemperature;
+    private Double maxTemperature;
+    private Integer humidity;     // %
+    private Double windSpeed;     // m/s
+    private String condition;     // Clear, Clouds, Rain 등
+    private String description;   // 한글 설명
+    private String icon;
+    private Instant observedAt;
+    private boolean stale;        // 외부 API 장애로 마지막 정상 응답을 대신 보낸 경우
+
+    // OpenWeatherMap /weather 응답 변환
+    public static CurrentWeatherResponse from(JsonNode node) {
+        JsonNode main = node.path("main");
+        JsonNode weather = node.path("weather").path(0);
+
+        return CurrentWeatherResponse.builder()
+                .cityName(node.path("name").asText(null))
+                .temperature(main.path("temp").asDouble())
+                .feelsLike(main.path("feels_like").asDouble())
+                .minTemperature(main.path("temp_min").asDouble())
+                .maxTemperature(main.path("temp_max").asDouble())
+                .humidity(main.path("humidity").asInt())
+                .windSpeed(node.path("wind").path("speed").asDouble())
+                .condition(weather.path("main").asText(null))
+                .description(weather.path("description").asText(null))
+                .icon(weather.path("icon").asText(null))
+                .observedAt(Instant.ofEpochSecond(node.path("dt").asLong()))
+                .build();
+    }
+
+    public CurrentWeatherResponse asStale() {
+        return toBuilder().stale(true).build();
+    }
+}
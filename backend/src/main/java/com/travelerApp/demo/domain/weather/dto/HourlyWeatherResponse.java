@@ -0,0 +1,57 @@
+package com.travelerApp.demo.domain.weather.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+public class HourlyWeatherResponse {
+
+    private String cityName;
+    private List<Forecast> forecasts;
+    private boolean stale; // 외부 API 장애로 마지막 정상 응답을 대신 보낸 경우
+
+    @Getter
+    @Builder
+    public static class Forecast {
+
+        private Instant time;
+        private Double temperature;              // 섭씨
+        private Integer humidity;                // %
+        private Double precipitationProbability; // 0~1
+        private String condition;
+        private String description;
+        private String icon;
+    }
+
+    // OpenWeatherMap /forecast 응답 변환
+    public static HourlyWeatherResponse from(JsonNode node) {
+        List<Forecast> forecasts = new ArrayList<>();
+        for (JsonNode item : node.path("list")) {
+            JsonNode weather = item.path("weather").path(0);
+            forecasts.add(Forecast.builder()
+                    .time(Instant.ofEpochSecond(item.path("dt").asLong()))
+                    .temperature(item.path("main").path("temp").asDouble())
+                    .humidity(item.path("main").path("humidity").asInt())
+                    .precipitationProbability(item.path("pop").asDouble())
+                    .condition(weather.path("main").asText(null))
+                    .description(weather.path("description").asText(null))
+                    .icon(weather.path("icon").asText(null))
+                    .build());
+        }
+
+        return HourlyWeatherResponse.builder()
+                .cityName(node.path("city").path("name").asText(null))
+                .forecasts(forecasts)
+                .build();
+    }
+
+    public HourlyWeatherResponse asStale() {
+        return toBuilder().stale(true).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.city.service.CityService;
+import com.travelerApp.demo.domain.weather.dto.CityWeatherResponse;
+import com.travelerApp.demo.domain.weather.dto.CityWeatherResponse.Status;
+import com.travelerApp.demo.domain.weather.dto.CurrentWeatherResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 저장된 도시 전체의 현재 날씨를 한 번에 조회
+// 도시별 조회를 동시 실행 수 제한 안에서 병렬로 돌리고, 마감 시간까지 끝난 도시만 채워서 응답
+// 캐시에 있는 칸은 즉시 완료되고, 마감 후에도 진행 중인 외부 호출은 캐시에 남아 다음 요청에서 사용됨
+@Service
+public class CityWeatherService {
+
+    private final CityService cityService;
+    private final WeatherService weatherService;
+    private final int concurrency;
+    private final Duration deadline;
+
+    public CityWeatherService(CityService cityService,
+                              WeatherService weatherService,
+                              @Value("${weather.batch.concurrency:10}") int concurrency,
+                              @Value("${weather.batch.deadline:3s}") Duration deadline) {
+        this.cityService = cityService;
+        this.weatherService = weatherService;
+        this.concurrency = concurrency;
+        this.deadline = deadline;
+    }
+
+    public CompletableFuture<List<CityWeatherResponse>> getCityWeather(Long userSeq) {
+        List<CityResponse> cities = cityService.getCities(userSeq);
+        if (cities.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Map<Long, CurrentWeatherResponse> completed = new ConcurrentHashMap<>();
+        Map<Long, Boolean> failed = new ConcurrentHashMap<>();
+
+        return Flux.fromIterable(cities)
+                // 취소돼도 캐시의 future 는 그대로 두어 외부 호출이 끝까지 진행되도록 함
+                .flatMap(city -> Mono.fromFuture(() -> weatherService.getCurrent(city.getLatitude(), city.getLongitude()), true)
+                        .doOnNext(weather -> completed.put(city.getSeq(), weather))
+                        .onErrorResume(e -> {
+                            failed.put(city.getSeq(), Boolean.TRUE);
+                            return Mono.empty();
+                        }), concurrency)
+                .take(deadline)
+                .then(Mono.fromSupplier(() -> cities.stream()
+                        .map(city -> toResponse(city, completed, failed))
+                        .toList()))
+                .toFuture();
+    }
+
+    private static CityWeatherResponse toResponse(CityResponse city,
+                                                  Map<Long, CurrentWeatherResponse> completed,
+                                                  Map<Long, Boolean> failed) {
+        CurrentWeatherResponse weather = completed.get(city.getSeq());
+        if (weather != null) {
+            return CityWeatherResponse.of(city, Status.OK, weather);
+        }
+        return CityWeatherResponse.of(city, failed.containsKey(city.getSeq()) ? Status.ERROR : Status.TIMEOUT, null);
+    }
+}
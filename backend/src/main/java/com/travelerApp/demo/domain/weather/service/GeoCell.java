@@ -0,0 +1,23 @@
+package com.travelerApp.demo.domain.weather.service;
+
+// 위도/경도를 격자 칸으로 양자화한 캐시 키 (가까운 좌표는 같은 칸을 공유)
+public record GeoCell(long latIndex, long lonIndex, double gridSize) {
+
+    public static GeoCell of(double latitude, double longitude, double gridSize) {
+        return new GeoCell(
+                (long) Math.floor(latitude / gridSize),
+                (long) Math.floor(longitude / gridSize),
+                gridSize
+        );
+    }
+
+    // 칸 중심 위도 (외부 API 호출 좌표)
+    public double centerLatitude() {
+        return (latIndex + 0.5) * gridSize;
+    }
+
+    // 칸 중심 경도
+    public double centerLongitude() {
+        return (lonIndex + 0.5) * gridSize;
+    }
+}
@@ -0,0 +1,131 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 아침 조회가 몰리기 전에 저장된 도시·다가오는 일정 도시의 날씨를 미리 받아 캐시에 채움
+// 외부 API 분당 호출 한도를 넘지 않도록 격자별 호출 간격을 두고 진행
+@Slf4j
+@Service
+public class WeatherPrefetchService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int CALLS_PER_CELL = 2; // 현재 + 시간대별
+
+    // 일정 도시는 같은 사용자가 같은 이름으로 저장한 도시의 좌표를 사용 (가까운 날짜 우선)
+    private static final String SCHEDULE_LOCATIONS_SQL =
+            "SELECT c.latitude, c.longitude FROM schedules s "
+                    + "JOIN cities c ON c.user_seq = s.user_seq AND c.name = s.city_name "
+                    + "WHERE s.date BETWEEN ? AND ? ORDER BY s.date";
+    private static final String CITY_LOCATIONS_SQL = "SELECT latitude, longitude FROM cities";
+
+    private final WeatherService weatherService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int scheduleDays;
+    private final Duration interval;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger targetCount = new AtomicInteger();
+    private final AtomicInteger coveredCount = new AtomicInteger();
+
+    public WeatherPrefetchService(WeatherService weatherService,
+                                  JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${weather.prefetch.schedule-days:2}") int scheduleDays,
+                                  @Value("${weather.prefetch.calls-per-minute:50}") int callsPerMinute) {
+        if (callsPerMinute < 1) {
+            throw new IllegalStateException("weather.prefetch.calls-per-minute 는 1 이상이어야 합니다: " + callsPerMinute);
+        }
+        this.weatherService = weatherService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduleDays = scheduleDays;
+        this.interval = Duration.ofMinutes(1).multipliedBy(CALLS_PER_CELL).dividedBy(callsPerMinute);
+
+        Gauge.builder("weather.prefetch.locations", targetCount, AtomicInteger::get)
+                .description("최근 사전 조회 대상 격자 수")
+                .register(meterRegistry);
+        AtomicInteger targets = targetCount;
+        AtomicInteger covered = coveredCount;
+        Gauge.builder("weather.prefetch.coverage", () -> coverage(targets.get(), covered.get()))
+                .description("최근 사전 조회에서 캐시를 채운 격자 비율")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${weather.prefetch.cron:0 */20 5-9 * * *}", zone = "Asia/Seoul")
+    public void scheduledPrefetch() {
+        prefetch();
+    }
+
+    // 대상 격자 전체를 호출 간격에 맞춰 조회 (이전 회차가 진행 중이면 건너뜀)
+    public CompletableFuture<Void> prefetch() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 날씨 사전 조회가 진행 중이라 건너뜀");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<GeoCell> cells;
+        try {
+            cells = findTargetCells();
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        weatherService.setPrefetchTargets(Set.copyOf(cells));
+
+        AtomicInteger covered = new AtomicInteger();
+        return Flux.fromIterable(cells)
+                .zipWith(Flux.interval(Duration.ZERO, interval), (cell, tick) -> cell)
+                .flatMap(cell -> Mono.fromFuture(() -> weatherService.prefetch(cell))
+                        .doOnSuccess(ignored -> covered.incrementAndGet())
+                        .onErrorResume(e -> {
+                            log.debug("날씨 사전 조회 실패: {}", cell, e);
+                            return Mono.empty();
+                        }))
+                .doFinally(signal -> {
+                    targetCount.set(cells.size());
+                    coveredCount.set(covered.get());
+                    running.set(false);
+                    log.info("날씨 사전 조회 완료: {}/{} 격자", covered.get(), cells.size());
+                })
+                .then()
+                .toFuture();
+    }
+
+    // 일정 도시(가까운 날짜 순) → 저장된 도시 순으로 중복 없는 격자 목록
+    public List<GeoCell> findTargetCells() {
+        LocalDate today = LocalDate.now(ZONE);
+        Set<GeoCell> cells = new LinkedHashSet<>();
+        jdbcTemplate.query(SCHEDULE_LOCATIONS_SQL,
+                rs -> {
+                    cells.add(weatherService.toCell(rs.getDouble(1), rs.getDouble(2)));
+                },
+                today, today.plusDays(scheduleDays));
+        jdbcTemplate.query(CITY_LOCATIONS_SQL,
+                rs -> {
+                    cells.add(weatherService.toCell(rs.getDouble(1), rs.getDouble(2)));
+                });
+        return new ArrayList<>(cells);
+    }
+
+    private static double coverage(int targets, int covered) {
+        return targets == 0 ? 1.0 : (double) covered / targets;
+    }
+}
@@ -0,0 +1,172 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.travelerApp.demo.domain.weather.dto.CurrentWeatherResponse;
+import com.travelerApp.demo.domain.weather.dto.HourlyWeatherResponse;
+import com.travelerApp.demo.global.exception.ExternalApiException;
+import com.travelerApp.demo.global.http.OutboundClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// OpenWeatherMap 프록시
+// 좌표를 격자 칸으로 묶어 캐시하고, 같은 칸의 동시 미스는 외부 호출 1회로 합침
+// 외부 API 장애(회로 차단 포함) 중에는 마지막 정상 응답을 stale 표시해 돌려주고 짧게만 캐시
+@Slf4j
+@Service
+public class WeatherService {
+
+    private static final int HOURLY_COUNT = 8; // 3시간 간격 8개 (24시간)
+
+    private final OutboundClient client;
+    private final String apiKey;
+    private final double gridSize;
+
+    private final AsyncCache<GeoCell, CurrentWeatherResponse> currentCache;
+    private final AsyncCache<GeoCell, HourlyWeatherResponse> hourlyCache;
+
+    // 격자별 마지막 정상 응답 (장애 시 대체용)
+    private final Cache<GeoCell, CurrentWeatherResponse> lastCurrent;
+    private final Cache<GeoCell, HourlyWeatherResponse> lastHourly;
+
+    // 미리 받아둘 격자 (사전 조회 대상 요청의 캐시 적중률 측정용)
+    private volatile Set<GeoCell> prefetchTargets = Set.of();
+    private final Counter prefetchHits;
+    private final Counter prefetchMisses;
+
+    public WeatherService(@Qualifier("openWeatherMapOutboundClient") OutboundClient client,
+                          MeterRegistry meterRegistry,
+                          @Value("${external-api.openweathermap.api-key}") String apiKey,
+                          @Value("${weather.cache.grid-size:0.1}") double gridSize,
+                          @Value("${weather.cache.current-ttl:10m}") Duration currentTtl,
+                          @Value("${weather.cache.hourly-ttl:30m}") Duration hourlyTtl,
+                          @Value("${weather.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${weather.cache.stale-ttl:30s}") Duration staleTtl,
+                          @Value("${weather.cache.stale-retention:6h}") Duration staleRetention) {
+        this.client = client;
+        this.apiKey = apiKey;
+        this.gridSize = gridSize;
+        this.currentCache = newCache(currentTtl, staleTtl, CurrentWeatherResponse::isStale, maximumSize);
+        this.hourlyCache = newCache(hourlyTtl, staleTtl, HourlyWeatherResponse::isStale, maximumSize);
+        this.lastCurrent = Caffeine.newBuilder().expireAfterWrite(staleRetention).maximumSize(maximumSize).build();
+        this.lastHourly = Caffeine.newBuilder().expireAfterWrite(staleRetention).maximumSize(maximumSize).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, currentCache.synchronous(), "weatherCurrent");
+        CaffeineCacheMetrics.monitor(meterRegistry, hourlyCache.synchronous(), "weatherHourly");
+
+        this.prefetchHits = Counter.builder("weather.prefetch.requests").tag("result", "hit")
+                .description("사전 조회 대상 격자에 대한 사용자 요청").register(meterRegistry);
+        this.prefetchMisses = Counter.builder("weather.prefetch.requests").tag("result", "miss")
+                .description("사전 조회 대상 격자에 대한 사용자 요청").register(meterRegistry);
+    }
+
+    // 현재 날씨
+    public CompletableFuture<CurrentWeatherResponse> getCurrent(double latitude, double longitude) {
+        GeoCell cell = toCell(latitude, longitude);
+        recordPrefetchLookup(currentCache, cell);
+        return currentCache.get(cell, (key, executor) ->
+                withFallback(fetchCurrent(key), key, lastCurrent, CurrentWeatherResponse::asStale));
+    }
+
+    // 시간대별 날씨
+    public CompletableFuture<HourlyWeatherResponse> getHourly(double latitude, double longitude) {
+        GeoCell cell = toCell(latitude, longitude);
+        recordPrefetchLookup(hourlyCache, cell);
+        return hourlyCache.get(cell, (key, executor) ->
+                withFallback(fetchHourly(key), key, lastHourly, HourlyWeatherResponse::asStale));
+    }
+
+    // 격자의 현재·시간대별 날씨를 새로 받아 캐시에 저장 (실패 시 기존 캐시 유지)
+    public CompletableFuture<Void> prefetch(GeoCell cell) {
+        CompletableFuture<Void> current = fetchCurrent(cell)
+                .thenAccept(weather -> currentCache.put(cell, CompletableFuture.completedFuture(weather)));
+        CompletableFuture<Void> hourly = fetchHourly(cell)
+                .thenAccept(weather -> hourlyCache.put(cell, CompletableFuture.completedFuture(weather)));
+        return CompletableFuture.allOf(current, hourly);
+    }
+
+    public void setPrefetchTargets(Set<GeoCell> cells) {
+        this.prefetchTargets = Set.copyOf(cells);
+    }
+
+    public GeoCell toCell(double latitude, double longitude) {
+        return GeoCell.of(latitude, longitude, gridSize);
+    }
+
+    private CompletableFuture<CurrentWeatherResponse> fetchCurrent(GeoCell cell) {
+        return fetch("/weather", cell, Map.of(), CurrentWeatherResponse::from)
+                .doOnNext(weather -> lastCurrent.put(cell, weather))
+                .toFuture();
+    }
+
+    private CompletableFuture<HourlyWeatherResponse> fetchHourly(GeoCell cell) {
+        return fetch("/forecast", cell, Map.of("cnt", HOURLY_COUNT), HourlyWeatherResponse::from)
+                .doOnNext(weather -> lastHourly.put(cell, weather))
+                .toFuture();
+    }
+
+    // 외부 호출 실패 시 마지막 정상 응답으로 대체 (없으면 실패 그대로)
+    private static <T> CompletableFuture<T> withFallback(CompletableFuture<T> fetch, GeoCell cell,
+                                                         Cache<GeoCell, T> last, UnaryOperator<T> asStale) {
+        return fetch.exceptionallyCompose(e -> {
+            T previous = last.getIfPresent(cell);
+            if (previous == null) {
+                return CompletableFuture.failedFuture(e);
+            }
+            log.debug("날씨 외부 호출 실패, 이전 응답으로 대체: {}", cell);
+            return CompletableFuture.completedFuture(asStale.apply(previous));
+        });
+    }
+
+    private void recordPrefetchLookup(AsyncCache<GeoCell, ?> cache, GeoCell cell) {
+        if (prefetchTargets.contains(cell)) {
+            (cache.getIfPresent(cell) != null ? prefetchHits : prefetchMisses).increment();
+        }
+    }
+
+    // 외부 호출 (칸 중심 좌표 기준, 실패한 결과는 캐시에서 자동 제거)
+    private <T> Mono<T> fetch(String path, GeoCell cell, Map<String, Object> params, Function<JsonNode, T> mapper) {
+        return client.execute(client.webClient().get()
+                .uri(uri -> {
+                    uri.path(path)
+                            .queryParam("lat", cell.centerLatitude())
+                            .queryParam("lon", cell.centerLongitude())
+                            .queryParam("appid", apiKey)
+                            .queryParam("units", "metric")
+                            .queryParam("lang", "kr");
+                    params.forEach(uri::queryParam);
+                    return uri.build();
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+                .map(mapper)
+                .onErrorMap(e -> new ExternalApiException("날씨 정보를 가져오지 못했습니다.", e));
+    }
+
+    // 정상 응답은 ttl, 대체 응답은 staleTtl 동안 보관 (복구되면 곧 새로 받도록)
+    private static <T> AsyncCache<GeoCell, T> newCache(Duration ttl, Duration staleTtl, Predicate<T> isStale,
+                                                       long maximumSize) {
+        return Caffeine.newBuilder()
+                .expireAfter(Expiry.<GeoCell, T>writing((cell, value) -> isStale.test(value) ? staleTtl : ttl))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .buildAsync();
+    }
+}
@@ -0,0 +1,9 @@
+package com.travelerApp.demo.global.exception;
+
+// 외부 API 호출 실패 (502)
+public class ExternalApiException extends RuntimeException {
+
+    public ExternalApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package com.travelerApp.demo.global.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String DEFAULT_BAD_REQUEST_MESSAGE = "잘못된 요청입니다.";
+
+    // 잘못된 요청 (서비스 검증 실패, 메시지가 없는 예외는 기본 문구)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        log.debug("잘못된 요청: {}", e.getMessage());
+        String message = StringUtils.hasText(e.getMessage()) ? e.getMessage() : DEFAULT_BAD_REQUEST_MESSAGE;
+        return ResponseEntity.badRequest()
+                .body(Map.of("message", message));
+    }
+
+    // 서버 포화로 인한 거절
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, String>> handleServiceBusy(ServiceBusyException e) {
+        log.warn("요청 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // 외부 API 장애
+    @ExceptionHandler(ExternalApiException.class)
+    public ResponseEntity<Map<String, String>> handleExternalApi(ExternalApiException e) {
+        log.error("외부 API 호출 실패: {}", e.getMessage(), e.getCause());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(Map.of("message", e.getMessage()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.travelerApp.demo.global.exception;
+
+import lombok.Getter;
+
+// 서버 자원이 포화 상태라 요청을 즉시 거절할 때 사용 (503 + Retry-After)
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
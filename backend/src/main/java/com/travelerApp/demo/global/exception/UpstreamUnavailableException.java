@@ -0,0 +1,9 @@
+package com.travelerApp.demo.global.exception;
+
+// 외부 API 보호 장치에 의한 호출 거절 (회로 차단 또는 동시 호출 한도 초과)
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
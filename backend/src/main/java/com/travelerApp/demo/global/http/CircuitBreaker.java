@@ -0,0 +1,141 @@
+package com.travelerApp.demo.global.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 최근 N회 호출 중 실패 비율이 기준을 넘으면 일정 시간 호출을 막는 회로 차단기
+// 차단 시간이 지나면 시험 호출 1건만 허용하고, 성공하면 닫고 실패하면 다시 차단
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold; // %
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private Instant openedAt = Instant.EPOCH;
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration, Clock clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    // 호출 허용 여부 (허용했다면 결과를 onSuccess / onFailure / onIgnored 중 하나로 알려야 함)
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                close();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 결과를 판단할 수 없는 종료 (취소 등) - 시험 호출이었다면 다음 시험을 허용
+    public void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probing = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
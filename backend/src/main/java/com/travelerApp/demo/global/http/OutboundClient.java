@@ -0,0 +1,101 @@
+package com.travelerApp.demo.global.http;
+
+import com.travelerApp.demo.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 외부 API 하나에 대한 호출 창구
+// 전용 커넥션 풀을 쓰는 WebClient + 동시 호출 한도(벌크헤드) + 전체 호출 시간 제한 + 회로 차단기
+public class OutboundClient {
+
+    private final String name;
+    private final WebClient webClient;
+    private final Semaphore permits;
+    private final Duration callTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    OutboundClient(String name, WebClient webClient, int maxConcurrentCalls, Duration callTimeout,
+                   CircuitBreaker circuitBreaker, Counter circuitOpenRejections, Counter bulkheadRejections) {
+        this.name = name;
+        this.webClient = webClient;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.callTimeout = callTimeout;
+        this.circuitBreaker = circuitBreaker;
+        this.circuitOpenRejections = circuitOpenRejections;
+        this.bulkheadRejections = bulkheadRejections;
+    }
+
+    public WebClient webClient() {
+        return webClient;
+    }
+
+    // 호출을 보호 장치 안에서 실행 (구독 시점에 허용 여부 판단, 거절은 기다리지 않고 바로 실패)
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                circuitOpenRejections.increment();
+                return Mono.error(new UpstreamUnavailableException(name + " 회로 차단 중"));
+            }
+            if (!permits.tryAcquire()) {
+                circuitBreaker.onIgnored();
+                bulkheadRejections.increment();
+                return Mono.error(new UpstreamUnavailableException(name + " 동시 호출 한도 초과"));
+            }
+
+            // 결과를 받는 쪽에 알리기 전에 반납 (취소와 겹쳐도 한 번만)
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            };
+            return call.timeout(callTimeout)
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isUpstreamFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnTerminate(release)
+                    .doOnCancel(() -> {
+                        if (!released.get()) {
+                            circuitBreaker.onIgnored();
+                        }
+                        release.run();
+                    });
+        });
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // 상대 서버 이상으로 볼 오류 (4xx 는 요청 문제이므로 제외)
+    private static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof ReadTimeoutException
+                || e instanceof ConnectTimeoutException;
+    }
+}
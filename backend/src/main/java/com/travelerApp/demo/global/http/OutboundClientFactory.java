@@ -0,0 +1,98 @@
+package com.travelerApp.demo.global.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+
+// 외부 API 별 OutboundClient 생성
+// 설정은 outbound.<이름>.* 가 있으면 그 값을, 없으면 outbound.default.* 를, 그것도 없으면 기본값을 사용
+@Component
+public class OutboundClientFactory {
+
+    private final WebClient.Builder webClientBuilder;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundClientFactory(WebClient.Builder webClientBuilder, Environment environment, MeterRegistry meterRegistry) {
+        this.webClientBuilder = webClientBuilder;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // baseUrl 이 null 이면 호출마다 전체 URL 지정
+    public OutboundClient create(String name, String baseUrl) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("outbound-" + name)
+                .maxConnections(getInt(name, "max-connections", 50))
+                .pendingAcquireTimeout(getDuration(name, "pending-acquire-timeout", "1s"))
+                .maxIdleTime(getDuration(name, "max-idle-time", "30s"))
+                .evictInBackground(Duration.ofMinutes(1))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) getDuration(name, "connect-timeout", "2s").toMillis())
+                .responseTimeout(getDuration(name, "read-timeout", "5s"));
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (baseUrl != null) {
+            builder.baseUrl(baseUrl);
+        }
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                getInt(name, "circuit-breaker.window-size", 20),
+                getInt(name, "circuit-breaker.minimum-calls", 10),
+                getInt(name, "circuit-breaker.failure-rate-threshold", 50),
+                getDuration(name, "circuit-breaker.open-duration", "30s"),
+                Clock.systemUTC());
+
+        OutboundClient client = new OutboundClient(name, builder.build(),
+                getInt(name, "max-concurrent-calls", 20),
+                getDuration(name, "call-timeout", "5s"),
+                circuitBreaker,
+                rejections(name, "circuit-open"),
+                rejections(name, "bulkhead-full"));
+
+        Gauge.builder("outbound.circuit.state", client, c -> c.getCircuitState().ordinal())
+                .description("회로 차단기 상태 (0 닫힘, 1 시험 중, 2 차단)")
+                .tag("upstream", name)
+                .register(meterRegistry);
+        Gauge.builder("outbound.bulkhead.available", client, OutboundClient::getAvailablePermits)
+                .description("남은 동시 호출 수")
+                .tag("upstream", name)
+                .register(meterRegistry);
+        return client;
+    }
+
+    private Counter rejections(String name, String reason) {
+        return Counter.builder("outbound.rejected")
+                .description("보호 장치에 의해 거절된 호출")
+                .tag("upstream", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private int getInt(String name, String key, int defaultValue) {
+        String value = getProperty(name, key);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    private Duration getDuration(String name, String key, String defaultValue) {
+        String value = getProperty(name, key);
+        return DurationStyle.detectAndParse(value != null ? value.trim() : defaultValue);
+    }
+
+    private String getProperty(String name, String key) {
+        String value = environment.getProperty("outbound." + name + "." + key);
+        return value != null ? value : environment.getProperty("outbound.default." + key);
+    }
+}
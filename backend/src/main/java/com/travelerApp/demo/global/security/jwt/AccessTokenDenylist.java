@@ -0,0 +1,140 @@
+package com.travelerApp.demo.global.security.jwt;
+
+import com.travelerApp.demo.domain.auth.entity.RevokedAccessToken;
+import com.travelerApp.demo.domain.auth.repository.RevokedAccessTokenRepository;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 Access Token 목록
+// 요청 경로에서는 메모리 Bloom filter만 확인하고, 양성일 때만 DB로 정확히 확인
+// 필터는 Access Token 유효기간 단위 세대(현재/이전)로 나눠 만료된 세대를 통째로 버림
+// 모든 기기 로그아웃은 사용자별 일시로 기록해 그 이전에 발급된 토큰을 거절
+// 메모리 목록은 인스턴스마다 따로이므로 여러 인스턴스로 운영할 때는 check-database로 매 요청 DB 확인
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final UserRepository userRepository;
+    private final long accessTokenExpiration;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final boolean checkDatabase;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    // 사용자별 모든 기기 로그아웃 일시 (Access Token 유효기간이 지나면 제거)
+    private final Map<Long, Instant> revokedUsers = new ConcurrentHashMap<>();
+
+    public AccessTokenDenylist(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                               @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${jwt.revocation.check-database:false}") boolean checkDatabase) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.userRepository = userRepository;
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.checkDatabase = checkDatabase;
+        this.current = newFilter();
+        this.previous = newFilter();
+    }
+
+    // 재기동 시 아직 유효한 폐기 목록 복원
+    @PostConstruct
+    protected void init() {
+        if (checkDatabase) {
+            return;
+        }
+        revokedAccessTokenRepository.findActiveJtis(LocalDateTime.now()).forEach(current::put);
+        userRepository.findByTokensRevokedAtAfter(LocalDateTime.now().minus(accessTokenExpiration, ChronoUnit.MILLIS))
+                .forEach(user -> revokedUsers.put(user.getSeq(), toInstant(user.getTokensRevokedAt())));
+    }
+
+    // Access Token 폐기
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(tokenId)
+                .expiryDate(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build());
+        current.put(tokenId);
+    }
+
+    // 사용자의 모든 Access Token 폐기 (iat가 초 단위이므로 같은 초에 발급된 토큰은 유지)
+    @Transactional
+    public void revokeAll(Long userSeq) {
+        Instant revokedBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        userRepository.updateTokensRevokedAt(userSeq, LocalDateTime.ofInstant(revokedBefore, ZoneId.systemDefault()));
+        revokedUsers.merge(userSeq, revokedBefore, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    // 폐기 여부 확인
+    public boolean isRevoked(JwtPrincipal principal) {
+        if (checkDatabase) {
+            return isTokenRevokedInDatabase(principal.getTokenId())
+                    || userRepository.findTokensRevokedAt(principal.getUserSeq())
+                            .map(revokedAt -> issuedBefore(principal, toInstant(revokedAt)))
+                            .orElse(false);
+        }
+
+        Instant revokedBefore = revokedUsers.get(principal.getUserSeq());
+        if (revokedBefore != null && issuedBefore(principal, revokedBefore)) {
+            return true;
+        }
+        String tokenId = principal.getTokenId();
+        if (tokenId == null || (!current.mightContain(tokenId) && !previous.mightContain(tokenId))) {
+            return false;
+        }
+        return revokedAccessTokenRepository.existsByJti(tokenId);
+    }
+
+    // 세대 교체: 이전 세대의 토큰은 모두 만료됐으므로 버림
+    @Transactional
+    @Scheduled(fixedRateString = "${jwt.access-token-expiration}", initialDelayString = "${jwt.access-token-expiration}")
+    public void rotate() {
+        previous = current;
+        current = newFilter();
+        Instant cutoff = Instant.now().minusMillis(accessTokenExpiration);
+        revokedUsers.values().removeIf(revokedBefore -> revokedBefore.isBefore(cutoff));
+
+        int deleted = revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Access Token 폐기 목록 세대 교체, 만료 기록 {}건 삭제", deleted);
+    }
+
+    private boolean isTokenRevokedInDatabase(String tokenId) {
+        return tokenId != null && revokedAccessTokenRepository.existsByJti(tokenId);
+    }
+
+    private static boolean issuedBefore(JwtPrincipal principal, Instant revokedBefore) {
+        return principal.getIssuedAt() != null && principal.getIssuedAt().isBefore(revokedBefore);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+}
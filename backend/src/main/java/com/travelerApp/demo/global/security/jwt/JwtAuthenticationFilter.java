@@ -24,7 +24,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,9 +34,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userSeq = jwtTokenProvider.getUserSeq(token);
-            String email = jwtTokenProvider.getEmail(token);
+        JwtPrincipal principal = StringUtils.hasText(token) ? jwtPrincipalCache.verify(token) : null;
+
+        // Refresh Token은 API 인증에 사용할 수 없음 (교체·로그아웃 후에도 만료 전까지 서명은 유효)
+        if (principal != null && !principal.isAccessToken()) {
+            log.debug("Access Token이 아닌 토큰입니다.");
+            principal = null;
+        }
+
+        // 로그아웃으로 폐기된 토큰은 인증하지 않음
+        if (principal != null && accessTokenDenylist.isRevoked(principal)) {
+            log.debug("폐기된 Access Token입니다.");
+            principal = null;
+        }
+
+        if (principal != null) {
+            Long userSeq = principal.getUserSeq();
+            String email = principal.getEmail();
 
             // 인증 객체 생성
             UsernamePasswordAuthenticationToken authentication =
@@ -44,6 +59,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             email,
                             Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
                     );
+            authentication.setDetails(principal);
 
             // SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,23 @@
+package com.travelerApp.demo.global.security.jwt;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class JwtPrincipal {
+
+    private final String tokenId;   // jti
+    private final Long userSeq;
+    private final String email;
+    private final String type;      // access, refresh
+    private final Instant issuedAt;  // 초 단위
+    private final Instant expiresAt;
+
+    // Access Token 여부
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+}
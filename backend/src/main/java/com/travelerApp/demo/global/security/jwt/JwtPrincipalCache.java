@@ -0,0 +1,68 @@
+package com.travelerApp.demo.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+// 검증된 Access Token 캐시 (토큰 다이제스트 → 인증 정보, 토큰 만료 시각에 함께 만료)
+@Component
+public class JwtPrincipalCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public JwtPrincipalCache(JwtTokenProvider jwtTokenProvider,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // 히트/미스 비율은 cache.gets{cache=jwtPrincipal, result=hit|miss} 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtPrincipal");
+    }
+
+    // 캐시 조회 후 없으면 검증 (검증 실패·Access Token이 아닌 토큰은 null, 캐시하지 않음)
+    public JwtPrincipal verify(String token) {
+        return cache.get(digest(token), key -> {
+            JwtPrincipal principal = jwtTokenProvider.verify(token);
+            return principal != null && principal.isAccessToken() ? principal : null;
+        });
+    }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+    private String digest(String token) {
+        return Base64.getEncoder().withoutPadding().encodeToString(TokenHasher.sha256(token));
+    }
+
+    // 엔트리 수명 = 토큰의 남은 유효기간
+    private static class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.getExpiresAt());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
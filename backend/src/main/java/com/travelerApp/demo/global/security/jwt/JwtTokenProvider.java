@@ -2,6 +2,9 @@ package com.travelerApp.demo.global.security.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,11 +13,19 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    // 검증 결과 (jwt.validation{result})
+    private enum ValidationResult {
+        VALID, EXPIRED, INVALID_SIGNATURE, MALFORMED, UNSUPPORTED, INVALID
+    }
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -26,9 +37,26 @@ public class JwtTokenProvider {
 
     private SecretKey key;
 
+    // 검증용 파서 (불변 객체이므로 재사용)
+    private JwtParser parser;
+
+    private final Map<ValidationResult, Counter> validationCounters = new EnumMap<>(ValidationResult.class);
+
+    public JwtTokenProvider(MeterRegistry meterRegistry) {
+        for (ValidationResult result : ValidationResult.values()) {
+            validationCounters.put(result, Counter.builder("jwt.validation")
+                    .description("JWT 서명 검증 결과 (캐시 적중은 제외)")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     // Access Token 생성
@@ -37,6 +65,7 @@ public class JwtTokenProvider {
         Date expiry = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // 폐기(로그아웃) 식별용
                 .subject(String.valueOf(userSeq))
                 .claim("email", email)
                 .claim("type", "access")
@@ -46,13 +75,15 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(Long userSeq) {
+    // Refresh Token 생성 (같은 시각에 발급돼도 세션마다 다른 토큰이 되도록 jti 포함)
+    public String createRefreshToken(Long userSeq, String email) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userSeq))
+                .claim("email", email)
                 .claim("type", "refresh")
                 .issuedAt(now)
                 .expiration(expiry)
@@ -74,31 +105,45 @@ public class JwtTokenProvider {
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    // 토큰 검증 및 인증 정보 추출 (서명 검증과 파싱을 한 번만 수행, 실패 시 null)
+    public JwtPrincipal verify(String token) {
+        ValidationResult result;
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.");
+            Claims claims = parseClaims(token);
+            JwtPrincipal principal = JwtPrincipal.builder()
+                    .tokenId(claims.getId())
+                    .userSeq(Long.parseLong(claims.getSubject()))
+                    .email(claims.get("email", String.class))
+                    .type(claims.get("type", String.class))
+                    .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)
+                    .expiresAt(claims.getExpiration().toInstant())
+                    .build();
+            validationCounters.get(ValidationResult.VALID).increment();
+            return principal;
+        } catch (SignatureException e) {
+            result = ValidationResult.INVALID_SIGNATURE;
+        } catch (MalformedJwtException e) {
+            result = ValidationResult.MALFORMED;
         } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.");
+            result = ValidationResult.EXPIRED;
         } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.");
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.");
+            result = ValidationResult.UNSUPPORTED;
+        } catch (JwtException | IllegalArgumentException e) {
+            result = ValidationResult.INVALID;
         }
-        return false;
+
+        // 클라이언트 입력 오류이므로 집계만 하고 로그는 DEBUG
+        validationCounters.get(result).increment();
+        log.debug("JWT 검증 실패: {}", result);
+        return null;
     }
 
     // 토큰 파싱
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     // Refresh Token 만료 시간 반환 (밀리초)
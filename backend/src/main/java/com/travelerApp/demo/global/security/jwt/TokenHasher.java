@@ -0,0 +1,24 @@
+package com.travelerApp.demo.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 토큰 원문을 저장/보관하지 않기 위한 SHA-256 다이제스트
+public final class TokenHasher {
+
+    public static final int HASH_LENGTH = 32;
+
+    private TokenHasher() {
+    }
+
+    // SHA-256(UTF-8) 32바이트 다이제스트
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.travelerApp.demo.global.security.oauth;
+
+import com.travelerApp.demo.global.http.OutboundClient;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Google 서명 공개키 보관소 (메모리에 보관하고 만료 전에 백그라운드에서 갱신)
+@Slf4j
+@Component
+public class GooglePublicKeyStore {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final OutboundClient client;
+    private final TaskScheduler taskScheduler;
+    private final String certsUrl;
+
+    // kid → 공개키 (갱신 시 통째로 교체)
+    private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+    private volatile Instant expiresAt = Instant.EPOCH;
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    public GooglePublicKeyStore(@Qualifier("googleOutboundClient") OutboundClient client,
+                                TaskScheduler taskScheduler,
+                                @Value("${google.certs-url}") String certsUrl) {
+        this.client = client;
+        this.taskScheduler = taskScheduler;
+        this.certsUrl = certsUrl;
+    }
+
+    @PostConstruct
+    protected void init() {
+        scheduledRefresh();
+    }
+
+    // kid에 해당하는 공개키 조회 (네트워크 호출 없음)
+    public PublicKey getKey(String keyId) {
+        PublicKey key = keys.get(keyId);
+
+        // 모르는 kid는 키 교체 직후일 수 있으므로 백그라운드 갱신만 요청
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    // 현재 보관 중인 키의 만료 시각
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    // 비동기 1회 갱신 요청 (최근 갱신 시도 후 최소 간격 이내면 무시)
+    public void requestRefresh() {
+        if (Instant.now().isAfter(lastAttemptAt.plus(MIN_REFRESH_INTERVAL))) {
+            taskScheduler.schedule(this::refresh, Instant.now());
+        }
+    }
+
+    // 주기 갱신 (만료 10% 전에 다음 갱신 예약, 실패 시 짧은 간격으로 재시도)
+    private void scheduledRefresh() {
+        Instant nextRefresh;
+        if (refresh()) {
+            Duration maxAge = Duration.between(lastAttemptAt, expiresAt);
+            Duration refreshIn = maxAge.minus(maxAge.dividedBy(10));
+            nextRefresh = Instant.now().plus(refreshIn.compareTo(MIN_REFRESH_INTERVAL) < 0 ? MIN_REFRESH_INTERVAL : refreshIn);
+        } else {
+            nextRefresh = Instant.now().plus(RETRY_DELAY);
+        }
+        taskScheduler.schedule(this::scheduledRefresh, nextRefresh);
+    }
+
+    // 공개키 조회 후 교체 (실패 시 기존 키 유지)
+    boolean refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            this.lastAttemptAt = Instant.now();
+            ResponseEntity<String> response = client.execute(client.webClient().get()
+                            .uri(certsUrl)
+                            .retrieve()
+                            .toEntity(String.class))
+                    .block(FETCH_TIMEOUT);
+
+            Duration maxAge = maxAge(response);
+            this.keys = parseKeys(response.getBody());
+            this.expiresAt = lastAttemptAt.plus(maxAge);
+            log.debug("Google 공개키 {}개 갱신, 만료: {}", keys.size(), expiresAt);
+            return true;
+
+        } catch (Exception e) {
+            log.error("Google 공개키 갱신 실패 (기존 키 유지): {}", e.getMessage());
+            return false;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    // Cache-Control max-age에서 Age를 뺀 유효기간
+    private Duration maxAge(ResponseEntity<String> response) {
+        String cacheControl = response.getHeaders().getCacheControl();
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        if (!matcher.find()) {
+            return DEFAULT_MAX_AGE;
+        }
+
+        long seconds = Long.parseLong(matcher.group(1));
+        String age = response.getHeaders().getFirst("Age");
+        if (age != null) {
+            seconds -= Long.parseLong(age.trim());
+        }
+        return Duration.ofSeconds(Math.max(0, seconds));
+    }
+
+    // JWKS 응답 파싱
+    private Map<String, PublicKey> parseKeys(String body) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(body);
+
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            Key key = jwk.toKey();
+            if (key instanceof PublicKey publicKey) {
+                parsed.put(jwk.getId(), publicKey);
+            }
+        }
+
+        if (parsed.isEmpty()) {
+            throw new IllegalStateException("공개키가 비어 있습니다.");
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -1,50 +1,88 @@
 package com.travelerApp.demo.global.security.oauth;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class GoogleTokenVerifier {
 
-    private final GoogleIdTokenVerifier verifier;
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final long CLOCK_SKEW_SECONDS = 300;
 
-    public GoogleTokenVerifier(@Value("${google.client-id}") String clientId) {
-        this.verifier = new GoogleIdTokenVerifier.Builder(
-                new NetHttpTransport(),
-                GsonFactory.getDefaultInstance()
-        )
-                .setAudience(Collections.singletonList(clientId))
+    private final JwtParser parser;
+
+    // 검증 소요 시간 (google.id_token.verify{result=valid|invalid_issuer|invalid})
+    private final Timer validTimer;
+    private final Timer invalidIssuerTimer;
+    private final Timer invalidTimer;
+
+    // 서명 검증은 메모리에 보관된 Google 공개키로만 수행 (요청 스레드에서 네트워크 호출 없음)
+    public GoogleTokenVerifier(@Value("${google.client-id}") String clientId,
+                               GooglePublicKeyStore publicKeyStore,
+                               MeterRegistry meterRegistry) {
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        PublicKey key = publicKeyStore.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new IllegalArgumentException("알 수 없는 Google 서명 키입니다: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .requireAudience(clientId)
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
                 .build();
+
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.invalidIssuerTimer = verifyTimer(meterRegistry, "invalid_issuer");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("google.id_token.verify")
+                .description("Google ID Token 서명 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     // Google ID Token 검증 및 사용자 정보 추출
     public GoogleUserInfo verify(String idTokenString) {
+        long startedAt = System.nanoTime();
         try {
-            GoogleIdToken idToken = verifier.verify(idTokenString);
+            Claims payload = parser.parseSignedClaims(idTokenString).getPayload();
 
-            if (idToken == null) {
+            if (!ISSUERS.contains(payload.getIssuer())) {
+                invalidIssuerTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
                 log.error("유효하지 않은 Google ID Token");
                 return null;
             }
 
-            GoogleIdToken.Payload payload = idToken.getPayload();
-
+            validTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             return GoogleUserInfo.builder()
                     .providerId(payload.getSubject())
-                    .email(payload.getEmail())
-                    .name((String) payload.get("name"))
-                    .pictureUrl((String) payload.get("picture"))
+                    .email(payload.get("email", String.class))
+                    .name(payload.get("name", String.class))
+                    .pictureUrl(payload.get("picture", String.class))
                     .build();
 
         } catch (Exception e) {
+            invalidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             log.error("Google ID Token 검증 실패: {}", e.getMessage());
             return null;
         }
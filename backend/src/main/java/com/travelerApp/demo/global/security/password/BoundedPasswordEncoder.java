@@ -0,0 +1,28 @@
+package com.travelerApp.demo.global.security.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 해싱/검증을 PasswordHashingExecutor에서 실행하는 PasswordEncoder (Tomcat 워커 스레드의 CPU 점유 방지)
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 목표보다 낮은지 확인 (해싱 없음)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,77 @@
+package com.travelerApp.demo.global.security.password;
+
+import com.travelerApp.demo.global.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해싱 전용 스레드 풀 (크기와 대기열을 제한하고, 가득 차면 즉시 거절)
+@Component
+public class PasswordHashingExecutor {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${security.password.hashing.pool-size:0}") int poolSize,
+                                   @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        // 0이면 CPU 코어 수만큼
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    // 가상 스레드 모드에서도 플랫폼 스레드 유지 (CPU 작업이라 동시 실행 수를 코어 수로 제한)
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+    }
+
+    // 해싱 작업 실행 후 결과 대기 (대기열 초과 시 ServiceBusyException)
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,206 @@
+package com.travelerApp.demo.global.security.throttle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 로그인/회원가입/구글 로그인 요청 제한 (IP별, 이메일별 토큰 버킷)
+// 제한된 요청은 DB 조회와 BCrypt 해싱 전에 429로 거절
+@Slf4j
+@Component
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final Set<String> THROTTLED_PATHS = Set.of("/api/auth/login", "/api/auth/signup", "/api/auth/google");
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+    private static final int MAX_BODY_BYTES = 16 * 1024; // 인증 전 경로라 큰 본문은 메모리에 올리지 않음
+
+    private final ObjectMapper objectMapper;
+    private final int ipCapacity;
+    private final int emailCapacity;
+
+    // 키 → 버킷 (최대 개수 제한, 가득 찬 버킷은 일정 시간 미사용 시 제거)
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+
+    private final Counter admitted;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginThrottleFilter(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${security.throttle.ip-per-minute:30}") int ipCapacity,
+                               @Value("${security.throttle.email-per-minute:5}") int emailCapacity,
+                               @Value("${security.throttle.maximum-keys:100000}") long maximumKeys) {
+        if (ipCapacity < 1 || emailCapacity < 1) {
+            throw new IllegalStateException("security.throttle.ip-per-minute, email-per-minute 는 1 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.ipCapacity = ipCapacity;
+        this.emailCapacity = emailCapacity;
+        this.ipBuckets = newBucketCache(maximumKeys);
+        this.emailBuckets = newBucketCache(maximumKeys);
+
+        this.admitted = meterRegistry.counter("auth.throttle.requests", "result", "admitted", "key", "none");
+        this.rejectedByIp = meterRegistry.counter("auth.throttle.requests", "result", "rejected", "key", "ip");
+        this.rejectedByEmail = meterRegistry.counter("auth.throttle.requests", "result", "rejected", "key", "email");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !THROTTLED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        long now = System.nanoTime();
+
+        // IP 기준 (프록시 뒤라면 server.forward-headers-strategy 설정 필요)
+        long waitNanos = consume(ipBuckets, request.getRemoteAddr(), ipCapacity, now);
+        if (waitNanos > 0) {
+            rejectedByIp.increment();
+            reject(response, waitNanos);
+            return;
+        }
+
+        // 본문 크기 제한 (Content-Length가 없으면 제한까지만 읽음)
+        byte[] body = request.getContentLengthLong() > MAX_BODY_BYTES ? null : readBody(request);
+        if (body == null) {
+            writeMessage(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+
+        // 이메일 기준 (본문을 읽었으므로 컨트롤러용으로 다시 감쌈)
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String email = extractEmail(body);
+        if (email != null) {
+            waitNanos = consume(emailBuckets, email, emailCapacity, now);
+            if (waitNanos > 0) {
+                rejectedByEmail.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        admitted.increment();
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private long consume(Cache<String, TokenBucket> buckets, String key, int capacity, long now) {
+        return buckets.get(key, k -> new TokenBucket(capacity, REFILL_PERIOD.toNanos(), now)).tryConsume(now);
+    }
+
+    // 제한을 넘으면 null
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : body;
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // 형식 오류는 컨트롤러 검증에서 처리
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeMessage(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void writeMessage(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), Map.of("message", message));
+    }
+
+    private static Cache<String, TokenBucket> newBucketCache(long maximumKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(REFILL_PERIOD.multipliedBy(2))
+                .build();
+    }
+
+    // 본문을 한 번 읽어 보관하고 다시 읽을 수 있게 하는 요청 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능·완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.travelerApp.demo.global.security.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없는 토큰 버킷 (GCRA: 다음 토큰이 채워지는 이론상 시각 하나만 CAS로 갱신)
+class TokenBucket {
+
+    private final long emissionIntervalNanos; // 토큰 1개가 채워지는 간격
+    private final long burstToleranceNanos;   // 버킷 용량만큼 미리 쓸 수 있는 시간
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("버킷 용량은 1 이상이어야 합니다: " + capacity);
+        }
+        this.emissionIntervalNanos = refillPeriodNanos / capacity;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    // 토큰 1개 사용 시도, 성공 시 0 / 실패 시 다음 토큰까지 남은 나노초
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - nowNanos - burstToleranceNanos;
+
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.travelerApp.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void bulkConversionRequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/exchange-rate/convert/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"to\":\"KRW\",\"items\":[{\"amount\":10,\"currency\":\"USD\",\"date\":\"2026-01-02\"}]}"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,94 @@
+package com.travelerApp.demo.domain.audit.service;
+
+import com.travelerApp.demo.domain.audit.entity.AuthAuditEventType;
+import com.travelerApp.demo.domain.audit.service.AuthAuditRecorder.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthAuditRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void writesInBatchesAndFlushesRemainingOnShutdown() throws Exception {
+        release.countDown();
+        AuthAuditRecorder recorder = recorder(16, OverflowPolicy.DROP_NEWEST, 3, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(recorder.record(event(i))).isTrue();
+        }
+        recorder.shutdown();
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(written()).extracting(AuditEvent::userSeq).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(meterRegistry.get("audit.events").tag("result", "written").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    void dropsNewestWhenBufferIsFull() throws Exception {
+        AuthAuditRecorder recorder = recorder(2, OverflowPolicy.DROP_NEWEST, 1, Duration.ZERO);
+        stallWriter(recorder);
+
+        assertThat(recorder.record(event(1))).isTrue();
+        assertThat(recorder.record(event(2))).isTrue();
+        assertThat(recorder.record(event(3))).isFalse();
+
+        release.countDown();
+        recorder.shutdown();
+        assertThat(written()).extracting(AuditEvent::userSeq).containsExactly(0L, 1L, 2L);
+        assertThat(meterRegistry.get("audit.events").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsOldestWhenBufferIsFull() throws Exception {
+        AuthAuditRecorder recorder = recorder(2, OverflowPolicy.DROP_OLDEST, 1, Duration.ZERO);
+        stallWriter(recorder);
+
+        recorder.record(event(1));
+        recorder.record(event(2));
+        assertThat(recorder.record(event(3))).isTrue();
+
+        release.countDown();
+        recorder.shutdown();
+        assertThat(written()).extracting(AuditEvent::userSeq).containsExactly(0L, 2L, 3L);
+    }
+
+    // 첫 이벤트 저장 중에 기록 스레드를 멈춰 버퍼가 차도록 함
+    private void stallWriter(AuthAuditRecorder recorder) throws InterruptedException {
+        recorder.record(event(0));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private AuthAuditRecorder recorder(int capacity, OverflowPolicy policy, int batchSize, Duration linger) {
+        AuditSink sink = events -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(List.copyOf(events));
+        };
+        return new AuthAuditRecorder(sink, meterRegistry, capacity, policy, Duration.ofMillis(10),
+                batchSize, linger, Duration.ofSeconds(5), false);
+    }
+
+    private List<AuditEvent> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    private AuditEvent event(long userSeq) {
+        return AuditEvent.of(AuthAuditEventType.LOGIN, userSeq, "user" + userSeq + "@example.com", "phone", null);
+    }
+}
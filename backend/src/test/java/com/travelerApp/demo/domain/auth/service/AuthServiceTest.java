@@ -0,0 +1,334 @@
+package com.travelerApp.demo.domain.auth.service;
+
+import com.travelerApp.demo.domain.auth.dto.LoginRequest;
+import com.travelerApp.demo.domain.auth.dto.SignupRequest;
+import com.travelerApp.demo.domain.auth.dto.TokenResponse;
+import com.travelerApp.demo.domain.auth.entity.RefreshToken;
+import com.travelerApp.demo.domain.auth.repository.RefreshTokenRepository;
+import com.travelerApp.demo.domain.auth.repository.RevokedAccessTokenRepository;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import com.travelerApp.demo.global.security.jwt.AccessTokenDenylist;
+import com.travelerApp.demo.global.security.jwt.JwtPrincipal;
+import com.travelerApp.demo.global.security.jwt.JwtTokenProvider;
+import com.travelerApp.demo.global.security.jwt.TokenHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshCoalescer refreshCoalescer;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void refreshRotatesTokenAndRejectsOldOne() {
+        signup("rotate@example.com");
+        TokenResponse login = authService.login(loginRequest("rotate@example.com", "phone"));
+
+        TokenResponse refreshed = authService.refresh(login.getRefreshToken());
+
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(authService.refresh(refreshed.getRefreshToken())).isNotNull();
+        assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keepsSessionPerDeviceAndEvictsLeastRecentlyUsed() {
+        Long userSeq = signup("devices@example.com");
+        TokenResponse phone = authService.login(loginRequest("devices@example.com", "phone"));
+        TokenResponse tablet = authService.login(loginRequest("devices@example.com", "tablet"));
+
+        // 태블릿 로그인 후에도 휴대폰 세션 유지
+        assertThat(authService.refresh(phone.getRefreshToken())).isNotNull();
+        assertThat(authService.refresh(tablet.getRefreshToken())).isNotNull();
+
+        for (int i = 0; i < 5; i++) {
+            authService.login(loginRequest("devices@example.com", "device-" + i));
+        }
+
+        // 최대 5개 세션, 가장 오래 사용되지 않은 휴대폰/태블릿 세션이 제거됨
+        assertThat(refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getUser().getSeq().equals(userSeq))
+                .map(token -> token.getDeviceId()))
+                .hasSize(5)
+                .doesNotContain("phone", "tablet");
+    }
+
+    @Test
+    void firstLoginWaitsForConcurrentSessionOfSameDevice() throws Exception {
+        Long userSeq = signup("first-login@example.com");
+        CountDownLatch inserted = new CountDownLatch(1);
+
+        // 같은 기기로 먼저 들어온 로그인이 세션을 INSERT 하고 아직 커밋하지 않은 상태
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> concurrentLogin = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                User user = userRepository.findForUpdateBySeq(userSeq).orElseThrow();
+                refreshTokenRepository.saveAndFlush(RefreshToken.builder()
+                        .user(user)
+                        .deviceId("new-device")
+                        .token("concurrent-login")
+                        .expiryDate(LocalDateTime.now().plusDays(1))
+                        .build());
+                inserted.countDown();
+                sleep(500);
+            }));
+            assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            TokenResponse login = authService.login(loginRequest("first-login@example.com", "new-device"));
+
+            concurrentLogin.get();
+            assertThat(authService.refresh(login.getRefreshToken())).isNotNull();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getUser().getSeq().equals(userSeq)))
+                .singleElement()
+                .extracting(RefreshToken::getDeviceId)
+                .isEqualTo("new-device");
+    }
+
+    @Test
+    void refreshOfTokenWithoutEmailClaimRestoresEmail() {
+        Long userSeq = signup("legacy@example.com");
+        authService.login(loginRequest("legacy@example.com", "phone"));
+
+        // email 클레임이 없던 이전 형식 토큰으로 세션 교체
+        String legacyToken = jwtTokenProvider.createRefreshToken(userSeq, null);
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.rotateByDevice(userSeq, "phone",
+                TokenHasher.sha256(legacyToken), LocalDateTime.now().plusDays(1), LocalDateTime.now()));
+
+        TokenResponse refreshed = authService.refresh(legacyToken);
+
+        assertThat(jwtTokenProvider.verify(refreshed.getAccessToken()).getEmail()).isEqualTo("legacy@example.com");
+        assertThat(jwtTokenProvider.verify(refreshed.getRefreshToken()).getEmail()).isEqualTo("legacy@example.com");
+    }
+
+    @Test
+    void concurrentRefreshesOfSameTokenShareOneRotation() throws Exception {
+        signup("concurrent@example.com");
+        TokenResponse login = authService.login(loginRequest("concurrent@example.com", "phone"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<TokenResponse>> refreshes = IntStream.range(0, 8)
+                    .<Callable<TokenResponse>>mapToObj(i -> () -> refreshCoalescer.refresh(login.getRefreshToken()))
+                    .toList();
+
+            List<String> refreshTokens = executor.invokeAll(refreshes).stream()
+                    .map(this::await)
+                    .map(TokenResponse::getRefreshToken)
+                    .distinct()
+                    .toList();
+
+            assertThat(refreshTokens).hasSize(1);
+            // 유예 시간 내 재요청도 같은 결과
+            assertThat(refreshCoalescer.refresh(login.getRefreshToken()).getRefreshToken()).isEqualTo(refreshTokens.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void logoutRevokesCurrentAccessTokenOnly() {
+        Long userSeq = signup("logout@example.com");
+        JwtPrincipal phone = jwtTokenProvider.verify(authService.login(loginRequest("logout@example.com", "phone")).getAccessToken());
+        JwtPrincipal tablet = jwtTokenProvider.verify(authService.login(loginRequest("logout@example.com", "tablet")).getAccessToken());
+
+        authService.logout(userSeq, "phone", phone);
+
+        assertThat(accessTokenDenylist.isRevoked(phone)).isTrue();
+        assertThat(accessTokenDenylist.isRevoked(tablet)).isFalse();
+    }
+
+    @Test
+    void logoutFromAllDevicesRevokesEveryAccessToken() throws InterruptedException {
+        Long userSeq = signup("logout-all@example.com");
+        JwtPrincipal phone = jwtTokenProvider.verify(authService.login(loginRequest("logout-all@example.com", "phone")).getAccessToken());
+        JwtPrincipal tablet = jwtTokenProvider.verify(authService.login(loginRequest("logout-all@example.com", "tablet")).getAccessToken());
+        Thread.sleep(1000); // iat는 초 단위
+
+        authService.logout(userSeq, null, phone);
+        JwtPrincipal relogin = jwtTokenProvider.verify(authService.login(loginRequest("logout-all@example.com", "phone")).getAccessToken());
+
+        assertThat(accessTokenDenylist.isRevoked(phone)).isTrue();
+        assertThat(accessTokenDenylist.isRevoked(tablet)).isTrue();
+        assertThat(accessTokenDenylist.isRevoked(relogin)).isFalse();
+
+        // 메모리 목록이 없는 다른 인스턴스도 DB 확인 모드에서는 거절
+        AccessTokenDenylist otherInstance = new AccessTokenDenylist(
+                revokedAccessTokenRepository, userRepository, 1_800_000, 1000, 0.001, true);
+        assertThat(otherInstance.isRevoked(tablet)).isTrue();
+        assertThat(otherInstance.isRevoked(relogin)).isFalse();
+    }
+
+    @Test
+    void refreshGraceResultIsNotReusedAfterLogout() {
+        Long userSeq = signup("grace-logout@example.com");
+        TokenResponse login = authService.login(loginRequest("grace-logout@example.com", "phone"));
+        refreshCoalescer.refresh(login.getRefreshToken());
+
+        authService.logout(userSeq, "phone", null);
+
+        // 유예 시간 안이라도 로그아웃한 세션의 결과는 돌려주지 않음
+        assertThatThrownBy(() -> refreshCoalescer.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> refreshCoalescer.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordsLoginPhasesAndValidationOutcomes() {
+        signup("metrics@example.com");
+        // 다른 테스트와 레지스트리를 공유하므로 증가분으로 확인
+        long passwordHash = phaseCount("password_hash");
+        long tokenMint = phaseCount("token_mint");
+        long repository = phaseCount("repository");
+        double rejected = operationCount("rejected");
+        double malformed = meterRegistry.get("jwt.validation").tag("result", "malformed").counter().count();
+
+        authService.login(loginRequest("metrics@example.com", "phone"));
+        assertThatThrownBy(() -> authService.login(loginRequest("unknown@example.com", "phone")))
+                .isInstanceOf(IllegalArgumentException.class);
+        jwtTokenProvider.verify("not-a-jwt");
+
+        assertThat(phaseCount("password_hash") - passwordHash).isEqualTo(1);
+        assertThat(phaseCount("token_mint") - tokenMint).isEqualTo(2);
+        assertThat(phaseCount("repository") - repository).isGreaterThanOrEqualTo(3);
+        assertThat(operationCount("rejected") - rejected).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.validation").tag("result", "malformed").counter().count() - malformed).isEqualTo(1);
+    }
+
+    @Test
+    void writesAuditEventsOutsideRequest() throws Exception {
+        Long userSeq = signup("audit@example.com");
+        authService.login(loginRequest("audit@example.com", "phone"));
+        LoginRequest wrongPassword = loginRequest("audit@example.com", "phone");
+        ReflectionTestUtils.setField(wrongPassword, "password", "wrong-password");
+        assertThatThrownBy(() -> authService.login(wrongPassword)).isInstanceOf(IllegalArgumentException.class);
+
+        // 기록 스레드가 linger 후 일괄 저장
+        List<String> types = List.of();
+        for (int i = 0; i < 50 && types.size() < 2; i++) {
+            Thread.sleep(100);
+            types = jdbcTemplate.queryForList(
+                    "SELECT event_type FROM auth_audit_events WHERE email = ? ORDER BY seq", String.class, "audit@example.com");
+        }
+        assertThat(types).containsExactly("LOGIN", "LOGIN_FAILED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT user_seq FROM auth_audit_events WHERE email = ? AND event_type = 'LOGIN'", Long.class, "audit@example.com"))
+                .isEqualTo(userSeq);
+    }
+
+    @Test
+    void successEventIsNotAuditedWhenTransactionRollsBack() throws Exception {
+        signup("audit-rollback@example.com");
+
+        // 로그인 후 트랜잭션 커밋 실패 (바깥 트랜잭션 롤백)
+        transactionTemplate.executeWithoutResult(status -> {
+            authService.login(loginRequest("audit-rollback@example.com", "phone"));
+            status.setRollbackOnly();
+        });
+        LoginRequest wrongPassword = loginRequest("audit-rollback@example.com", "phone");
+        ReflectionTestUtils.setField(wrongPassword, "password", "wrong-password");
+        assertThatThrownBy(() -> authService.login(wrongPassword)).isInstanceOf(IllegalArgumentException.class);
+
+        // 실패 이벤트가 저장될 때까지 대기 (성공 이벤트가 기록됐다면 그 전에 저장됨)
+        List<String> types = List.of();
+        for (int i = 0; i < 50 && types.isEmpty(); i++) {
+            Thread.sleep(100);
+            types = jdbcTemplate.queryForList(
+                    "SELECT event_type FROM auth_audit_events WHERE email = ? ORDER BY seq", String.class, "audit-rollback@example.com");
+        }
+        assertThat(types).containsExactly("LOGIN_FAILED");
+    }
+
+    private long phaseCount(String phase) {
+        return meterRegistry.get("auth.phase").tag("operation", "login").tag("phase", phase).timer().count();
+    }
+
+    private long operationCount(String outcome) {
+        return meterRegistry.get("auth.operation").tag("operation", "login").tag("outcome", outcome).timer().count();
+    }
+
+    private TokenResponse await(Future<TokenResponse> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long signup(String email) {
+        SignupRequest request = new SignupRequest();
+        ReflectionTestUtils.setField(request, "email", email);
+        ReflectionTestUtils.setField(request, "password", "password123");
+        ReflectionTestUtils.setField(request, "nickname", "traveler");
+        return authService.signup(request);
+    }
+
+    private LoginRequest loginRequest(String email, String deviceId) {
+        LoginRequest request = new LoginRequest();
+        ReflectionTestUtils.setField(request, "email", email);
+        ReflectionTestUtils.setField(request, "password", "password123");
+        ReflectionTestUtils.setField(request, "deviceId", deviceId);
+        return request;
+    }
+}
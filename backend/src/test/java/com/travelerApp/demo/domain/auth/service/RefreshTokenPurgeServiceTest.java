@@ -0,0 +1,71 @@
+package com.travelerApp.demo.domain.auth.service;
+
+import com.travelerApp.demo.domain.auth.entity.RefreshToken;
+import com.travelerApp.demo.domain.auth.repository.RefreshTokenRepository;
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenPurgeServiceTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void purgesExpiredTokensAcrossBatchesAndKeepsLiveOnes() {
+        User user = userRepository.save(User.builder()
+                .email("purge@example.com").nickname("traveler").provider(AuthProvider.LOCAL).build());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            saveToken(user, "expired-" + i, now.minusMinutes(i + 1));
+        }
+        saveToken(user, "live", now.plusDays(1));
+
+        // 배치 크기 2 → 만료 토큰 5건은 3번 이상의 배치로 나눠 삭제
+        RefreshTokenPurgeService purgeService =
+                new RefreshTokenPurgeService(refreshTokenRepository, transactionTemplate, meterRegistry, 2);
+        purgeService.purgeExpiredTokens();
+
+        assertThat(refreshTokenRepository.countByExpiryDateBefore(LocalDateTime.now())).isZero();
+        assertThat(refreshTokenRepository.findByUserOrderByLastUsedAtDesc(user))
+                .extracting(RefreshToken::getDeviceId)
+                .containsExactly("live");
+        assertThat(meterRegistry.get("refresh_token.purge.rows").counter().count()).isGreaterThanOrEqualTo(5);
+        assertThat(meterRegistry.get("refresh_token.purge.batch").timer().count()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get("refresh_token.purge.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSizeAtStartup() {
+        assertThatThrownBy(() -> new RefreshTokenPurgeService(refreshTokenRepository, transactionTemplate, meterRegistry, 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void saveToken(User user, String deviceId, LocalDateTime expiryDate) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .deviceId(deviceId)
+                .token("purge-" + deviceId)
+                .expiryDate(expiryDate)
+                .build());
+    }
+}
@@ -0,0 +1,62 @@
+package com.travelerApp.demo.domain.city.service;
+
+import com.travelerApp.demo.domain.city.dto.CitySearchResponse;
+import com.travelerApp.demo.domain.city.search.Gazetteer;
+import com.travelerApp.demo.domain.city.search.GazetteerCity;
+import com.travelerApp.demo.domain.city.search.GeocodingClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CitySearchServiceTest {
+
+    private static final Gazetteer GAZETTEER = new Gazetteer(new ClassPathResource("gazetteer/cities.tsv"));
+
+    private final GeocodingClient geocodingClient = mock(GeocodingClient.class);
+    private final CitySearchService citySearchService = new CitySearchService(GAZETTEER, geocodingClient, 2);
+
+    @Test
+    void matchesKoreanWhileTypingAndLatinWithoutAccents() {
+        // "성", "서우"는 "서울"을 입력하는 중간 상태
+        assertThat(names("성")).contains("Seoul", "Chengdu");
+        assertThat(names("서우")).containsExactly("Seoul");
+        assertThat(names("오사")).containsExactly("Osaka");
+        assertThat(names("sao p")).containsExactly("Sao Paulo");
+        assertThat(names("MÜNCHEN")).containsExactly("Munich");
+        assertThat(names("bombay")).containsExactly("Mumbai");
+        verify(geocodingClient, never()).search(anyString());
+    }
+
+    @Test
+    void ranksByPopulationAndListsEachCityOnce() {
+        List<String> names = names("s");
+
+        assertThat(names).first().isEqualTo("Shanghai");
+        assertThat(names).doesNotHaveDuplicates().hasSizeLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void fallsBackToRemoteGeocoderOnlyOnMiss() {
+        GazetteerCity remote = new GazetteerCity("Hallstatt", "할슈타트", "AT", "오스트리아", 47.5622, 13.6493, 0);
+        when(geocodingClient.search("hallstatt")).thenReturn(CompletableFuture.completedFuture(List.of(remote)));
+
+        assertThat(names("hallstatt")).containsExactly("Hallstatt");
+        assertThat(names("ㅃ")).isEmpty(); // 한 글자는 원격 조회 안 함
+        verify(geocodingClient).search("hallstatt");
+    }
+
+    private List<String> names(String query) {
+        return citySearchService.search(query, 10).join().stream()
+                .map(CitySearchResponse::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.travelerApp.demo.domain.exchange.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExchangeRateControllerTest {
+
+    private static final String ITEM = "{\"amount\":1000,\"currency\":\"USD\",\"date\":\"2026-01-01\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void bulkConversionRejectsNullTargetCurrency() throws Exception {
+        convertBulk("{\"to\":null,\"items\":[" + ITEM + "]}");
+    }
+
+    @Test
+    void bulkConversionRejectsNullItem() throws Exception {
+        convertBulk("{\"items\":[" + ITEM + ",null]}");
+    }
+
+    private void convertBulk(String body) throws Exception {
+        mockMvc.perform(post("/api/exchange-rate/convert/bulk")
+                        .with(user("traveler"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+}
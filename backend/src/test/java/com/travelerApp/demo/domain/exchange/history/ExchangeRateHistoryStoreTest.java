@@ -0,0 +1,56 @@
+package com.travelerApp.demo.domain.exchange.history;
+
+import com.travelerApp.demo.domain.exchange.service.ExchangeRate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeRateHistoryStoreTest {
+
+    private static final LocalDate FRIDAY = LocalDate.of(2026, 10, 9);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void weekendLookupFallsBackToLastPublishedDayAndSurvivesReopen() throws Exception {
+        ExchangeRateHistoryStore store = open();
+        store.append(FRIDAY, List.of(usd("1400.5")));
+        store.append(FRIDAY.plusDays(3), List.of(usd("1410.25")));
+        store.close();
+
+        ExchangeRateHistoryStore reopened = open();
+        assertThat(reopened.getLastDate()).isEqualTo(FRIDAY.plusDays(3));
+        assertThat(reopened.getRate("USD", FRIDAY.plusDays(2))).isEqualByComparingTo("1400.5");
+        assertThat(reopened.getRate("USD", FRIDAY.plusDays(3))).isEqualByComparingTo("1410.25");
+        assertThat(reopened.getRate("USD", FRIDAY.minusDays(1))).isNull();
+        assertThat(reopened.getRate("EUR", FRIDAY)).isNull();
+    }
+
+    @Test
+    void growsBeyondInitialMapping() throws Exception {
+        ExchangeRateHistoryStore store = open();
+        for (int i = 0; i < 800; i++) {
+            store.append(FRIDAY.plusDays(i), List.of(usd(String.valueOf(1000 + i))));
+        }
+
+        assertThat(store.getRate("USD", FRIDAY.plusDays(799))).isEqualByComparingTo("1799");
+        assertThat(store.getRate("USD", FRIDAY.plusDays(400))).isEqualByComparingTo("1400");
+    }
+
+    private ExchangeRateHistoryStore open() throws Exception {
+        ExchangeRateHistoryStore store = new ExchangeRateHistoryStore(directory, 7);
+        store.init();
+        return store;
+    }
+
+    private static ExchangeRate usd(String rate) {
+        return ExchangeRate.builder().currency("USD").name("미국 달러").rate(new BigDecimal(rate)).build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.travelerApp.demo.domain.exchange.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.domain.exchange.dto.BulkConversionRequest;
+import com.travelerApp.demo.domain.exchange.history.ExchangeRateHistoryStore;
+import com.travelerApp.demo.global.http.OutboundClient;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 서버를 수출입은행 API 대신 사용 (최근 고시일은 사흘 전)
+class ExchangeRateServiceTest {
+
+    private static final String RATES = """
+            [{"result":1,"cur_unit":"KRW","cur_nm":"한국 원","deal_bas_r":"1"},
+             {"result":1,"cur_unit":"USD","cur_nm":"미국 달러","deal_bas_r":"1,400.5"},
+             {"result":1,"cur_unit":"JPY(100)","cur_nm":"일본 옌","deal_bas_r":"920.3"}]
+            """;
+
+    private final LocalDate publishedDate = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(3);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private HttpServer server;
+    private ExchangeRateService exchangeRateService;
+
+    @TempDir
+    Path historyDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+            boolean published = query.contains("searchdate=" + publishedDate.format(DateTimeFormatter.BASIC_ISO_DATE));
+            byte[] body = (published ? RATES : "[]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        OutboundClient client = new OutboundClientFactory(WebClient.builder(), new MockEnvironment(), new SimpleMeterRegistry())
+                .create("test", "http://127.0.0.1:" + server.getAddress().getPort());
+        ExchangeRateHistoryStore historyStore = new ExchangeRateHistoryStore(historyDirectory, 7);
+        historyStore.init();
+        exchangeRateService = new ExchangeRateService(client,
+                new ConcurrentTaskScheduler(Executors.newSingleThreadScheduledExecutor()), historyStore, "test-key",
+                7, Duration.ofMinutes(10), 6, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void emptyTableIsNotServed() {
+        assertThatThrownBy(() -> exchangeRateService.getTable())
+                .hasMessage("환율 정보를 준비 중입니다.");
+    }
+
+    @Test
+    void loadsMostRecentPublishedDayAndNormalizesUnits() {
+        exchangeRateService.refresh();
+
+        ExchangeRateTable table = exchangeRateService.getTable();
+        assertThat(table.getDate()).isEqualTo(publishedDate);
+        assertThat(table.get("USD").getRate()).isEqualByComparingTo("1400.5");
+        assertThat(table.get("JPY").getRate()).isEqualByComparingTo("9.203");
+        assertThat(table.convert(new BigDecimal("10000"), "JPY", "KRW")).isEqualByComparingTo("92030.00");
+        assertThat(table.convert(new BigDecimal("100"), "USD", "JPY")).isEqualByComparingTo("15217.86");
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void refreshSkipsDaysAlreadyLoaded() {
+        exchangeRateService.refresh();
+        exchangeRateService.refresh();
+
+        // 두 번째 갱신은 고시일 이후 날짜만 조회
+        assertThat(upstreamCalls.get()).isEqualTo(4 + 3);
+    }
+
+    @Test
+    void bulkConversionUsesRateOfEachRowsDate() {
+        exchangeRateService.refresh();
+
+        List<BigDecimal> converted = exchangeRateService.convertAll(List.of(
+                new BulkConversionRequest.Item(new BigDecimal("10"), "USD", publishedDate),
+                new BulkConversionRequest.Item(new BigDecimal("1000"), "JPY", publishedDate.plusDays(2)), // 직전 고시일 적용
+                new BulkConversionRequest.Item(new BigDecimal("10"), "USD", publishedDate.minusDays(1)),  // 이력 이전
+                new BulkConversionRequest.Item(new BigDecimal("10"), "EUR", publishedDate)), "KRW");
+
+        assertThat(converted.get(0)).isEqualByComparingTo("14005.00");
+        assertThat(converted.get(1)).isEqualByComparingTo("9203.00");
+        assertThat(converted.get(2)).isNull();
+        assertThat(converted.get(3)).isNull();
+    }
+}
@@ -0,0 +1,108 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.travelerApp.demo.domain.expense.dto.ExpenseSummaryResponse;
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ExpenseImportServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 9, 1);
+    private static final int ROWS = 5000;
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void csvImportRoundTripsThroughExportAndUpdatesSummary() throws Exception {
+        Long userSeq = user("import-csv@example.com");
+        StringBuilder csv = new StringBuilder("date,category,amount,currency,memo\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(DAY.plusDays(i % 10)).append(i % 2 == 0 ? ",FOOD," : ",TRANSPORT,")
+                    .append("1000.50,KRW,").append(i % 100 == 0 ? "\"점심, \"\"국밥\"\"\"" : "").append('\n');
+        }
+
+        assertThat(expenseImportService.importCsv(userSeq, stream(csv.toString()))).isEqualTo(ROWS);
+
+        ExpenseSummaryResponse summary = expenseService.getSummary(userSeq, DAY, DAY.plusDays(30));
+        assertThat(summary.getByCurrency()).singleElement()
+                .satisfies(total -> {
+                    assertThat(total.getCount()).isEqualTo(ROWS);
+                    assertThat(total.getTotal()).isEqualByComparingTo("5002500");
+                });
+        assertThat(summary.getByDay()).hasSize(10);
+
+        // 내보낸 CSV를 다시 가져와도 같은 내용
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        expenseExportService.exportCsv(userSeq, DAY, DAY.plusDays(30), exported);
+        Long otherSeq = user("import-csv-copy@example.com");
+        assertThat(expenseImportService.importCsv(otherSeq, new ByteArrayInputStream(exported.toByteArray()))).isEqualTo(ROWS);
+        assertThat(exported.toString(StandardCharsets.UTF_8)).contains("\"점심, \"\"국밥\"\"\"");
+    }
+
+    @Test
+    void ndjsonImportWithInvalidRowRollsBackEverything() {
+        Long userSeq = user("import-ndjson@example.com");
+        String ndjson = """
+                {"amount":12.5,"currency":"USD","category":"FOOD","date":"2026-09-01"}
+                {"amount":-1,"currency":"USD","category":"FOOD","date":"2026-09-01"}
+                """;
+
+        assertThatThrownBy(() -> expenseImportService.importNdjson(userSeq, stream(ndjson)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("2번째 줄: 금액은 0 이상이어야 합니다.");
+        assertThat(expenseService.getExpenses(userSeq, DAY, DAY)).isEmpty();
+        assertThat(expenseService.getSummary(userSeq, DAY, DAY).getByCurrency()).isEmpty();
+    }
+
+    @Test
+    void bodyIsReadBeforeTransactionStarts() throws Exception {
+        Long userSeq = user("import-outside-tx@example.com");
+        AtomicBoolean readInTransaction = new AtomicBoolean();
+        FilterInputStream body = new FilterInputStream(stream("date,category,amount\n2026-09-01,FOOD,1000\n")) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                readInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+                return super.read(b, off, len);
+            }
+        };
+
+        assertThat(expenseImportService.importCsv(userSeq, body)).isEqualTo(1);
+        assertThat(readInTransaction).isFalse();
+        assertThat(expenseService.getExpenses(userSeq, DAY, DAY)).hasSize(1);
+    }
+
+    private Long user(String email) {
+        return userRepository.save(User.builder()
+                .email(email).nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
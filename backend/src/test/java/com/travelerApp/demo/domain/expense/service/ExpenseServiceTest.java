@@ -0,0 +1,68 @@
+package com.travelerApp.demo.domain.expense.service;
+
+import com.travelerApp.demo.domain.expense.dto.ExpenseRequest;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.dto.ExpenseSummaryResponse;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExpenseServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseSummaryRebuildService expenseSummaryRebuildService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void summaryTracksCreateUpdateDeleteAndMatchesRebuild() {
+        Long userSeq = userRepository.save(User.builder()
+                .email("expense@example.com").nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+
+        expenseService.create(userSeq, request("12000", "KRW", ExpenseCategory.FOOD, DAY));
+        expenseService.create(userSeq, request("3000", "KRW", ExpenseCategory.TRANSPORT, DAY));
+        ExpenseResponse dinner = expenseService.create(userSeq, request("25.50", "USD", ExpenseCategory.FOOD, DAY.plusDays(1)));
+        ExpenseResponse taxi = expenseService.create(userSeq, request("40", "USD", ExpenseCategory.TRANSPORT, DAY.plusDays(1)));
+
+        expenseService.update(userSeq, dinner.getSeq(), request("30.25", "USD", ExpenseCategory.SHOPPING, DAY.plusDays(2)));
+        expenseService.delete(userSeq, taxi.getSeq());
+
+        ExpenseSummaryResponse summary = expenseService.getSummary(userSeq, DAY, DAY.plusDays(7));
+        assertThat(summary.getByCurrency())
+                .extracting(t -> t.getCurrency() + ":" + t.getTotal().stripTrailingZeros().toPlainString() + ":" + t.getCount())
+                .containsExactly("KRW:15000:2", "USD:30.25:1");
+        assertThat(summary.getByCategory())
+                .extracting(t -> t.getCategory() + ":" + t.getCurrency())
+                .containsExactly("FOOD:KRW", "SHOPPING:USD", "TRANSPORT:KRW");
+        assertThat(summary.getByDay())
+                .extracting(t -> t.getDate() + ":" + t.getCurrency() + ":" + t.getCount())
+                .containsExactly(DAY + ":KRW:2", DAY.plusDays(2) + ":USD:1");
+
+        // 처음부터 다시 계산해도 같은 결과
+        expenseSummaryRebuildService.rebuild(userSeq);
+        ExpenseSummaryResponse rebuilt = expenseService.getSummary(userSeq, DAY, DAY.plusDays(7));
+        assertThat(rebuilt).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(summary);
+    }
+
+    private static ExpenseRequest request(String amount, String currency, ExpenseCategory category, LocalDate date) {
+        return new ExpenseRequest(new BigDecimal(amount), currency, category, null, date);
+    }
+}
@@ -0,0 +1,151 @@
+package com.travelerApp.demo.domain.sync.service;
+
+import com.travelerApp.demo.domain.city.dto.CityRequest;
+import com.travelerApp.demo.domain.city.service.CityService;
+import com.travelerApp.demo.domain.expense.dto.ExpenseRequest;
+import com.travelerApp.demo.domain.expense.dto.ExpenseResponse;
+import com.travelerApp.demo.domain.expense.entity.ExpenseCategory;
+import com.travelerApp.demo.domain.expense.service.ExpenseService;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleRequest;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleResponse;
+import com.travelerApp.demo.domain.schedule.service.ScheduleService;
+import com.travelerApp.demo.domain.sync.dto.SyncResponse;
+import com.travelerApp.demo.domain.sync.entity.SyncEntityType;
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SyncServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 3);
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void returnsOnlyChangesAndTombstonesSinceCursor() {
+        Long userSeq = userRepository.save(User.builder()
+                .email("sync@example.com").nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+
+        cityService.create(userSeq, new CityRequest("오사카", "일본", 34.69, 135.50));
+        ExpenseResponse ramen = expenseService.create(userSeq,
+                new ExpenseRequest(new BigDecimal("1200"), "JPY", ExpenseCategory.FOOD, "라멘", DAY));
+        ScheduleResponse castle = scheduleService.create(userSeq, new ScheduleRequest("오사카성", "오사카", DAY, null));
+
+        SyncResponse initial = syncService.getChanges(userSeq, 0, 0, 500);
+        assertThat(initial.getCities()).hasSize(1);
+        assertThat(initial.getExpenses()).hasSize(1);
+        assertThat(initial.getSchedules()).hasSize(1);
+        assertThat(initial.isHasMore()).isFalse();
+
+        // 변경 없음
+        assertThat(syncService.getChanges(userSeq, initial.getCursor(), 0, 500).getCursor()).isEqualTo(initial.getCursor());
+
+        scheduleService.update(userSeq, castle.getSeq(), new ScheduleRequest("오사카성 천수각", "오사카", DAY, null));
+        expenseService.delete(userSeq, ramen.getSeq());
+
+        SyncResponse delta = syncService.getChanges(userSeq, initial.getCursor(), 0, 500);
+        assertThat(delta.getCities()).isEmpty();
+        assertThat(delta.getExpenses()).isEmpty();
+        assertThat(delta.getSchedules()).extracting(ScheduleResponse::getTitle).containsExactly("오사카성 천수각");
+        assertThat(delta.getDeleted()).singleElement()
+                .satisfies(deleted -> {
+                    assertThat(deleted.getType()).isEqualTo(SyncEntityType.EXPENSE);
+                    assertThat(deleted.getSeq()).isEqualTo(ramen.getSeq());
+                });
+    }
+
+    @Test
+    void pagesThroughChangesInVersionOrder() {
+        Long userSeq = userRepository.save(User.builder()
+                .email("sync-page@example.com").nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+        for (int i = 0; i < 5; i++) {
+            scheduleService.create(userSeq, new ScheduleRequest("일정 " + i, null, DAY.plusDays(i), null));
+            expenseService.create(userSeq, new ExpenseRequest(BigDecimal.TEN, "KRW", ExpenseCategory.OTHER, null, DAY));
+        }
+
+        long cursor = 0;
+        long snapshotVersion = 0;
+        int pages = 0;
+        int received = 0;
+        SyncResponse response;
+        do {
+            response = syncService.getChanges(userSeq, cursor, snapshotVersion, 3);
+            received += response.getSchedules().size() + response.getExpenses().size();
+            cursor = response.getCursor();
+            snapshotVersion = response.getSnapshotVersion();
+            pages++;
+        } while (response.isHasMore());
+
+        assertThat(received).isEqualTo(10);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void fullSyncWalkIsNotResetByTombstonePurge() {
+        Long userSeq = userRepository.save(User.builder()
+                .email("sync-floor@example.com").nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+        ExpenseResponse first = null;
+        for (int i = 0; i < 5; i++) {
+            ExpenseResponse expense = expenseService.create(userSeq,
+                    new ExpenseRequest(BigDecimal.TEN, "KRW", ExpenseCategory.OTHER, null, DAY));
+            first = first == null ? expense : first;
+        }
+
+        SyncResponse page = syncService.getChanges(userSeq, 0, 0, 2);
+        assertThat(page.getSnapshotVersion()).isGreaterThan(page.getCursor());
+
+        // 첫 페이지 커서보다 높은 버전까지 삭제 기록 정리 + 받은 행 삭제
+        jdbcTemplate.update("UPDATE users SET sync_floor_version = ? WHERE seq = ?", page.getSnapshotVersion(), userSeq);
+        expenseService.delete(userSeq, first.getSeq());
+
+        // 시작 시점 버전 없이 보낸 커서는 재동기화 필요
+        assertThat(syncService.getChanges(userSeq, page.getCursor(), 0, 2).isResetRequired()).isTrue();
+
+        int received = page.getExpenses().size();
+        int deleted = 0;
+        while (page.isHasMore()) {
+            page = syncService.getChanges(userSeq, page.getCursor(), page.getSnapshotVersion(), 2);
+            assertThat(page.isResetRequired()).isFalse();
+            received += page.getExpenses().size();
+            deleted += page.getDeleted().size();
+        }
+
+        assertThat(received).isEqualTo(5);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(page.getSnapshotVersion()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositivePurgeBatchSizeAtStartup() {
+        assertThatThrownBy(() -> new SyncTombstonePurgeService(null, null, null, Duration.ofDays(30), 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
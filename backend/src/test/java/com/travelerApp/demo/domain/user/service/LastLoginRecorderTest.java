@@ -0,0 +1,104 @@
+package com.travelerApp.demo.domain.user.service;
+
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class LastLoginRecorderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // 실제 DB에 쓰면서 batchUpdate 호출 횟수 확인
+    private JdbcTemplate jdbcSpy;
+    private LastLoginRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcSpy = spy(jdbcTemplate);
+        recorder = new LastLoginRecorder(jdbcSpy);
+    }
+
+    @Test
+    void mergesLoginsPerUserIntoOneBatchKeepingNewest() {
+        Long first = newUser("last-login-first@example.com");
+        Long second = newUser("last-login-second@example.com");
+
+        recorder.record(first, BASE.plusMinutes(1));
+        recorder.record(first, BASE.plusMinutes(3));
+        recorder.record(first, BASE.plusMinutes(2)); // 늦게 도착한 이전 시각
+        recorder.record(second, BASE);
+        recorder.flush();
+
+        verify(jdbcSpy, times(1)).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 2));
+        assertThat(lastLoginAt(first)).isEqualTo(BASE.plusMinutes(3));
+        assertThat(lastLoginAt(second)).isEqualTo(BASE);
+    }
+
+    @Test
+    void keepsNewerLastLoginAlreadyStored() {
+        Long userSeq = newUser("last-login-newer@example.com");
+        jdbcTemplate.update("UPDATE users SET last_login_at = ? WHERE seq = ?", Timestamp.valueOf(BASE.plusHours(1)), userSeq);
+
+        recorder.record(userSeq, BASE);
+        recorder.flush();
+
+        assertThat(lastLoginAt(userSeq)).isEqualTo(BASE.plusHours(1));
+    }
+
+    @Test
+    void flushesPendingLoginsOnShutdown() {
+        Long userSeq = newUser("last-login-shutdown@example.com");
+
+        recorder.record(userSeq, BASE);
+        recorder.flushOnShutdown();
+        recorder.flush(); // 남은 기록이 없으면 DB 쓰기 없음
+
+        verify(jdbcSpy, times(1)).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 1));
+        assertThat(lastLoginAt(userSeq)).isEqualTo(BASE);
+    }
+
+    @Test
+    void entityUpdateDoesNotOverwriteFlushedLastLogin() {
+        Long userSeq = newUser("last-login-entity@example.com");
+        User loadedBeforeLogin = userRepository.findById(userSeq).orElseThrow();
+
+        recorder.record(userSeq, BASE);
+        recorder.flush();
+        loadedBeforeLogin.updateNickname("renamed");
+        userRepository.save(loadedBeforeLogin);
+
+        assertThat(lastLoginAt(userSeq)).isEqualTo(BASE);
+    }
+
+    private LocalDateTime lastLoginAt(Long userSeq) {
+        return jdbcTemplate.queryForObject("SELECT last_login_at FROM users WHERE seq = ?", LocalDateTime.class, userSeq);
+    }
+
+    private Long newUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email).nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+    }
+}
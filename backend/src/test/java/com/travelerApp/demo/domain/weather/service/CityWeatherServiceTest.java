@@ -0,0 +1,126 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.domain.city.dto.CityResponse;
+import com.travelerApp.demo.domain.city.service.CityService;
+import com.travelerApp.demo.domain.weather.dto.CityWeatherResponse.Status;
+import com.travelerApp.demo.domain.weather.dto.CityWeatherResponse;
+import com.travelerApp.demo.global.http.OutboundClient;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로컬 서버를 OpenWeatherMap 대신 사용 (위도 60 이상은 느린 응답, 위도 -60 이하는 오류)
+class CityWeatherServiceTest {
+
+    private static final String CURRENT = """
+            {"name":"City","dt":1760000000,"main":{"temp":18.5,"feels_like":17.9,"temp_min":16.0,"temp_max":20.1,"humidity":55},
+             "wind":{"speed":2.1},"weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}
+            """;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CityService cityService = mock(CityService.class);
+    private HttpServer server;
+    private CityWeatherService cityWeatherService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/weather", exchange -> {
+            upstreamCalls.incrementAndGet();
+            double latitude = Double.parseDouble(exchange.getRequestURI().getQuery().replaceAll(".*lat=([^&]+).*", "$1"));
+            if (latitude <= -60) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            try {
+                Thread.sleep(latitude >= 60 ? 2000 : 200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = CURRENT.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.start();
+
+        OutboundClient client = new OutboundClientFactory(WebClient.builder(), new MockEnvironment(), new SimpleMeterRegistry())
+                .create("test", "http://127.0.0.1:" + server.getAddress().getPort());
+        WeatherService weatherService = new WeatherService(client, new SimpleMeterRegistry(), "test-key",
+                0.1, Duration.ofMinutes(10), Duration.ofMinutes(30), 1000,
+                Duration.ofSeconds(30), Duration.ofHours(6));
+        cityWeatherService = new CityWeatherService(cityService, weatherService, 20, Duration.ofMillis(1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void twentyCitiesTakeAboutAsLongAsOne() {
+        List<CityResponse> cities = LongStream.range(0, 20)
+                .mapToObj(i -> city(i, 30 + i, 120))
+                .toList();
+        when(cityService.getCities(1L)).thenReturn(cities);
+
+        long started = System.nanoTime();
+        List<CityWeatherResponse> result = cityWeatherService.getCityWeather(1L).join();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        assertThat(result).hasSize(20).allMatch(r -> r.getStatus() == Status.OK);
+        assertThat(elapsedMillis).isLessThan(900);
+        assertThat(upstreamCalls.get()).isEqualTo(20);
+
+        // 두 번째 요청은 캐시에서 바로 응답
+        cityWeatherService.getCityWeather(1L).join();
+        assertThat(upstreamCalls.get()).isEqualTo(20);
+    }
+
+    @Test
+    void slowAndFailingCitiesDoNotBlockOthers() {
+        when(cityService.getCities(1L)).thenReturn(List.of(
+                city(1, 37.5, 127.0),
+                city(2, 65.0, 25.0),
+                city(3, -65.0, 0.0)));
+
+        long started = System.nanoTime();
+        List<CityWeatherResponse> result = cityWeatherService.getCityWeather(1L).join();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        assertThat(result).extracting(CityWeatherResponse::getStatus)
+                .containsExactly(Status.OK, Status.TIMEOUT, Status.ERROR);
+        assertThat(result.get(0).getWeather().getTemperature()).isEqualTo(18.5);
+        assertThat(elapsedMillis).isLessThan(1800);
+    }
+
+    private static CityResponse city(long seq, double latitude, double longitude) {
+        return CityResponse.builder()
+                .seq(seq)
+                .name("city-" + seq)
+                .country("KR")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
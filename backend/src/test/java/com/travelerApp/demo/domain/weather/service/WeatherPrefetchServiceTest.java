@@ -0,0 +1,147 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.domain.city.dto.CityRequest;
+import com.travelerApp.demo.domain.city.service.CityService;
+import com.travelerApp.demo.domain.schedule.dto.ScheduleRequest;
+import com.travelerApp.demo.domain.schedule.service.ScheduleService;
+import com.travelerApp.demo.domain.user.entity.AuthProvider;
+import com.travelerApp.demo.domain.user.entity.User;
+import com.travelerApp.demo.domain.user.repository.UserRepository;
+import com.travelerApp.demo.global.http.OutboundClient;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 서버를 OpenWeatherMap 대신 사용
+@SpringBootTest
+class WeatherPrefetchServiceTest {
+
+    private static final String CURRENT = """
+            {"name":"City","dt":1760000000,"main":{"temp":18.5,"feels_like":17.9,"temp_min":16.0,"temp_max":20.1,"humidity":55},
+             "wind":{"speed":2.1},"weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}
+            """;
+    private static final String FORECAST = """
+            {"city":{"name":"City"},"list":[{"dt":1760000000,"main":{"temp":18.5,"humidity":55},"pop":0.1,
+             "weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}]}
+            """;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private WeatherService weatherService;
+    private WeatherPrefetchService prefetchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/weather", exchange -> respond(exchange, CURRENT));
+        server.createContext("/forecast", exchange -> respond(exchange, FORECAST));
+        server.start();
+
+        OutboundClient client = new OutboundClientFactory(WebClient.builder(), new MockEnvironment(), meterRegistry)
+                .create("test", "http://127.0.0.1:" + server.getAddress().getPort());
+        weatherService = new WeatherService(client, meterRegistry, "test-key",
+                0.1, Duration.ofMinutes(10), Duration.ofMinutes(30), 1000,
+                Duration.ofSeconds(30), Duration.ofHours(6));
+        prefetchService = new WeatherPrefetchService(weatherService, jdbcTemplate, meterRegistry, 2, 6000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void upcomingScheduleCitiesComeFirstWithoutDuplicates() {
+        Long owner = newUser("prefetch-owner@example.com");
+        cityService.create(owner, new CityRequest("서울", "한국", 37.5665, 126.978));
+        cityService.create(owner, new CityRequest("홍콩", "중국", 22.3193, 114.1694));
+
+        Long traveler = newUser("prefetch-traveler@example.com");
+        cityService.create(traveler, new CityRequest("홍콩", "중국", 22.3193, 114.1694));
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        scheduleService.create(traveler, new ScheduleRequest("야경", "홍콩", today.plusDays(1), null));
+        scheduleService.create(traveler, new ScheduleRequest("미정", "어딘가", today.plusDays(1), null));
+
+        // 서울을 저장하지 않은 사용자의 일정은 다른 사용자가 저장한 서울 좌표를 쓰지 않음
+        Long stranger = newUser("prefetch-stranger@example.com");
+        scheduleService.create(stranger, new ScheduleRequest("출장", "서울", today, null));
+
+        List<GeoCell> cells = prefetchService.findTargetCells();
+
+        GeoCell seoul = weatherService.toCell(37.5665, 126.978);
+        GeoCell hongKong = weatherService.toCell(22.3193, 114.1694);
+        assertThat(cells).doesNotHaveDuplicates().contains(seoul, hongKong);
+        assertThat(cells.indexOf(hongKong)).isLessThan(cells.indexOf(seoul));
+    }
+
+    @Test
+    void prefetchedCellsAreServedFromCache() {
+        Long userSeq = newUser("prefetch-cache@example.com");
+        cityService.create(userSeq, new CityRequest("부산", "한국", 35.1796, 129.0756));
+        int cellCount = prefetchService.findTargetCells().size();
+
+        prefetchService.prefetch().join();
+        assertThat(upstreamCalls.get()).isEqualTo(cellCount * 2);
+
+        weatherService.getCurrent(35.1796, 129.0756).join();
+        weatherService.getHourly(35.1796, 129.0756).join();
+
+        assertThat(upstreamCalls.get()).isEqualTo(cellCount * 2);
+        assertThat(meterRegistry.get("weather.prefetch.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("weather.prefetch.coverage").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsZeroCallRateAtStartup() {
+        assertThatThrownBy(() -> new WeatherPrefetchService(weatherService, jdbcTemplate, meterRegistry, 2, 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Long newUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email).nickname("traveler").provider(AuthProvider.LOCAL).build()).getSeq();
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        upstreamCalls.incrementAndGet();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,108 @@
+package com.travelerApp.demo.domain.weather.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.domain.weather.dto.CurrentWeatherResponse;
+import com.travelerApp.demo.global.http.OutboundClient;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 서버를 OpenWeatherMap 대신 사용
+class WeatherServiceTest {
+
+    private static final String CURRENT = """
+            {"name":"Seoul","dt":1760000000,"main":{"temp":18.5,"feels_like":17.9,"temp_min":16.0,"temp_max":20.1,"humidity":55},
+             "wind":{"speed":2.1},"weather":[{"main":"Clear","description":"맑음","icon":"01d"}]}
+            """;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private HttpServer server;
+    private OutboundClient client;
+    private WeatherService weatherService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/weather", exchange -> {
+            upstreamCalls.incrementAndGet();
+            if (failing.get()) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = CURRENT.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(java.util.concurrent.Executors.newFixedThreadPool(4));
+        server.start();
+
+        client = new OutboundClientFactory(WebClient.builder(), new MockEnvironment(), new SimpleMeterRegistry())
+                .create("test", "http://127.0.0.1:" + server.getAddress().getPort());
+        weatherService = new WeatherService(client, new SimpleMeterRegistry(), "test-key",
+                0.1, Duration.ofMinutes(10), Duration.ofMinutes(30), 1000,
+                Duration.ofSeconds(30), Duration.ofHours(6));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void nearbyConcurrentRequestsShareOneUpstreamCall() {
+        List<CompletableFuture<?>> requests = IntStream.range(0, 20)
+                .<CompletableFuture<?>>mapToObj(i -> weatherService.getCurrent(37.5665 + i * 0.001, 126.978))
+                .toList();
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(weatherService.getCurrent(37.56, 126.97).join().getCityName()).isEqualTo("Seoul");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void distantCoordinatesUseSeparateCells() {
+        weatherService.getCurrent(37.5665, 126.978).join();
+        weatherService.getCurrent(35.1796, 129.0756).join();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void servesLastGoodResponseAsStaleWhileUpstreamFails() throws Exception {
+        WeatherService shortLived = new WeatherService(client, new SimpleMeterRegistry(), "test-key",
+                0.1, Duration.ofMillis(100), Duration.ofMillis(100), 1000,
+                Duration.ofMillis(100), Duration.ofHours(6));
+        assertThat(shortLived.getCurrent(37.5665, 126.978).join().isStale()).isFalse();
+
+        failing.set(true);
+        Thread.sleep(150);
+
+        CurrentWeatherResponse stale = shortLived.getCurrent(37.5665, 126.978).join();
+        assertThat(stale.isStale()).isTrue();
+        assertThat(stale.getTemperature()).isEqualTo(18.5);
+    }
+}
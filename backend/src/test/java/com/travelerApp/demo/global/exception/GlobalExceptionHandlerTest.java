@@ -0,0 +1,30 @@
+package com.travelerApp.demo.global.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void illegalArgumentWithoutMessageStillMapsTo400() {
+        ResponseEntity<Map<String, String>> response = handler.handleIllegalArgument(new IllegalArgumentException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("message", "잘못된 요청입니다.");
+    }
+
+    @Test
+    void illegalArgumentMessageIsReturned() {
+        ResponseEntity<Map<String, String>> response =
+                handler.handleIllegalArgument(new IllegalArgumentException("지원하지 않는 통화입니다: XYZ"));
+
+        assertThat(response.getBody()).containsEntry("message", "지원하지 않는 통화입니다: XYZ");
+    }
+}
@@ -0,0 +1,123 @@
+package com.travelerApp.demo.global.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 서버로 외부 API 장애 상황 재현 (/slow: 1초 지연, /flaky: failing 이면 500)
+class OutboundClientTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean(true);
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("outbound.test.max-concurrent-calls", "2")
+            .withProperty("outbound.test.call-timeout", "1500ms")
+            .withProperty("outbound.test.circuit-breaker.window-size", "4")
+            .withProperty("outbound.test.circuit-breaker.minimum-calls", "4")
+            .withProperty("outbound.test.circuit-breaker.open-duration", "300ms");
+    private HttpServer server;
+    private OutboundClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/slow", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.createContext("/flaky", exchange -> {
+            upstreamCalls.incrementAndGet();
+            respond(exchange, failing.get() ? 500 : 200);
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        client = new OutboundClientFactory(WebClient.builder(), environment, new SimpleMeterRegistry())
+                .create("test", "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimitWithoutWaiting() {
+        List<CompletableFuture<String>> calls = IntStream.range(0, 4)
+                .mapToObj(i -> call("/slow").toFuture())
+                .toList();
+
+        long rejected = calls.stream()
+                .filter(call -> call.handle((body, e) -> e instanceof UpstreamUnavailableException).join())
+                .count();
+
+        assertThat(rejected).isEqualTo(2);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(client.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void callTimeoutCountsAsFailure() {
+        OutboundClient tight = new OutboundClientFactory(WebClient.builder(),
+                environment.withProperty("outbound.tight.call-timeout", "200ms"), new SimpleMeterRegistry())
+                .create("tight", "http://127.0.0.1:" + server.getAddress().getPort());
+
+        assertThatThrownBy(() -> tight.execute(tight.webClient().get().uri("/slow").retrieve().bodyToMono(String.class)).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void circuitOpensOnFailuresAndClosesAfterSuccessfulProbe() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> call("/flaky").block()).isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 차단 중에는 외부로 나가지 않음
+        assertThatThrownBy(() -> call("/flaky").block()).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+
+        failing.set(false);
+        Thread.sleep(400);
+        assertThat(call("/flaky").block()).isEqualTo("ok");
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private Mono<String> call(String path) {
+        return client.execute(client.webClient().get().uri(path).retrieve().bodyToMono(String.class));
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.travelerApp.demo.global.security.jwt;
+
+import com.travelerApp.demo.domain.auth.dto.LoginRequest;
+import com.travelerApp.demo.domain.auth.dto.SignupRequest;
+import com.travelerApp.demo.domain.auth.dto.TokenResponse;
+import com.travelerApp.demo.domain.auth.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void refreshTokenIsNotAcceptedAsBearerCredential() throws Exception {
+        TokenResponse tokens = login("bearer-refresh@example.com");
+
+        mockMvc.perform(get("/api/cities").header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.getAccessToken()))
+                .andExpect(status().isOk());
+
+        // 첫 요청(검증)과 두 번째 요청(캐시 조회) 모두 거절
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/cities").header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.getRefreshToken()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    private TokenResponse login(String email) {
+        SignupRequest signup = new SignupRequest();
+        ReflectionTestUtils.setField(signup, "email", email);
+        ReflectionTestUtils.setField(signup, "password", "password123");
+        ReflectionTestUtils.setField(signup, "nickname", "traveler");
+        authService.signup(signup);
+
+        LoginRequest login = new LoginRequest();
+        ReflectionTestUtils.setField(login, "email", email);
+        ReflectionTestUtils.setField(login, "password", "password123");
+        ReflectionTestUtils.setField(login, "deviceId", "phone");
+        return authService.login(login);
+    }
+}
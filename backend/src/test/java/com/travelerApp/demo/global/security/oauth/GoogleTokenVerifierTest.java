@@ -0,0 +1,128 @@
+package com.travelerApp.demo.global.security.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.travelerApp.demo.global.http.OutboundClientFactory;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 JWKS 서버를 Google 공개키 엔드포인트 대신 사용
+class GoogleTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+    private static final String KEY_ID = "test-key";
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private final AtomicInteger certsRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private GooglePublicKeyStore publicKeyStore;
+    private GoogleTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String jwks = new ObjectMapper().writeValueAsString(Map.of("keys", List.of(
+                Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).id(KEY_ID).build()
+        )));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth2/v3/certs", exchange -> {
+            certsRequests.incrementAndGet();
+            byte[] body = jwks.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+
+        String certsUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/oauth2/v3/certs";
+        OutboundClientFactory outboundClientFactory =
+                new OutboundClientFactory(WebClient.builder(), new MockEnvironment(), new SimpleMeterRegistry());
+        publicKeyStore = new GooglePublicKeyStore(outboundClientFactory.create("google", null), taskScheduler, certsUrl);
+        publicKeyStore.init();
+        verifier = new GoogleTokenVerifier(CLIENT_ID, publicKeyStore, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    void verifiesTokenSignedWithPublishedKey() {
+        GoogleUserInfo userInfo = verifier.verify(idToken(KEY_ID, CLIENT_ID));
+
+        assertThat(userInfo).isNotNull();
+        assertThat(userInfo.getProviderId()).isEqualTo("google-sub");
+        assertThat(userInfo.getEmail()).isEqualTo("traveler@example.com");
+        assertThat(userInfo.getName()).isEqualTo("Traveler");
+    }
+
+    @Test
+    void honorsCacheControlMaxAge() {
+        assertThat(publicKeyStore.getExpiresAt())
+                .isBetween(Instant.now().plus(Duration.ofMinutes(59)), Instant.now().plus(Duration.ofMinutes(61)));
+    }
+
+    @Test
+    void verifiesWithoutNetworkOnceKeysAreLoaded() {
+        server.stop(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(verifier.verify(idToken(KEY_ID, CLIENT_ID))).isNotNull();
+        }
+        assertThat(certsRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWrongAudience() {
+        assertThat(verifier.verify(idToken(KEY_ID, "other-client"))).isNull();
+    }
+
+    @Test
+    void rejectsUnknownKeyId() {
+        assertThat(verifier.verify(idToken("unknown-key", CLIENT_ID))).isNull();
+    }
+
+    private String idToken(String keyId, String audience) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer("https://accounts.google.com")
+                .audience().add(audience).and()
+                .subject("google-sub")
+                .claim("email", "traveler@example.com")
+                .claim("name", "Traveler")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+}
@@ -0,0 +1,53 @@
+package com.travelerApp.demo.global.security.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginThrottleFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectsRepeatedAttemptsForSameEmailBeforeReachingController() throws Exception {
+        // 본문 검증 실패(400)는 컨트롤러까지 도달했다는 뜻
+        String body = "{\"email\":\"Throttle@Example.com\",\"password\":\"short\",\"nickname\":\"traveler\"}";
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content(body.replace("Throttle@Example.com", "throttle@example.com")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void rejectsOversizedBodyWithoutBufferingIt() throws Exception {
+        String body = "{\"email\":\"large@example.com\",\"password\":\"" + "x".repeat(20_000) + "\"}";
+
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void rejectsZeroCapacityAtStartup() {
+        assertThatThrownBy(() -> new LoginThrottleFilter(new ObjectMapper(), new SimpleMeterRegistry(), 0, 5, 100))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
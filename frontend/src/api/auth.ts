@@ -1,4 +1,4 @@
-import apiClient from './client';
+import apiClient, { getDeviceId } from './client';
 
 export interface SignupRequest {
   email: string;
@@ -31,7 +31,7 @@ export const signup = async (data: SignupRequest): Promise<SignupResponse> => {
 
 // 로그인
 export const login = async (data: LoginRequest): Promise<TokenResponse> => {
-  const response = await apiClient.post('/api/auth/login', data);
+  const response = await apiClient.post('/api/auth/login', { ...data, deviceId: await getDeviceId() });
   return response.data;
 };
 
@@ -43,5 +43,5 @@ export const refreshToken = async (refreshToken: string): Promise<TokenResponse>
 
 // 로그아웃
 export const logout = async (): Promise<void> => {
-  await apiClient.post('/api/auth/logout');
+  await apiClient.post('/api/auth/logout', { deviceId: await getDeviceId() });
 };
@@ -4,6 +4,16 @@ import * as SecureStore from 'expo-secure-store';
 // 백엔드 서버 주소 (개발 환경)
 const BASE_URL = 'http://10.0.2.2:8081'; // Android 에뮬레이터
 
+// 기기 ID (기기별 로그인 세션 구분, 최초 1회 생성 후 보관)
+export const getDeviceId = async (): Promise<string> => {
+  let deviceId = await SecureStore.getItemAsync('deviceId');
+  if (!deviceId) {
+    deviceId = `${Date.now().toString(36)}-${Math.random().toString(36).slice(2, 12)}`;
+    await SecureStore.setItemAsync('deviceId', deviceId);
+  }
+  return deviceId;
+};
+
 const apiClient = axios.create({
   baseURL: BASE_URL,
   headers: {
@@ -39,8 +49,10 @@ apiClient.interceptors.response.use(
             refreshToken,
           });
 
-          const { accessToken } = response.data;
+          // 재발급 시 Refresh Token도 교체되므로 함께 저장
+          const { accessToken, refreshToken: newRefreshToken } = response.data;
           await SecureStore.setItemAsync('accessToken', accessToken);
+          await SecureStore.setItemAsync('refreshToken', newRefreshToken);
 
           originalRequest.headers.Authorization = `Bearer ${accessToken}`;
           return apiClient(originalRequest);
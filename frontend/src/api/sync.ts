@@ -0,0 +1,57 @@
+import * as SecureStore from 'expo-secure-store';
+import apiClient from './client';
+
+export type SyncEntityType = 'CITY' | 'EXPENSE' | 'SCHEDULE';
+
+export interface SyncResponse<City = unknown, Expense = unknown, Schedule = unknown> {
+  cursor: number;
+  snapshotVersion: number;
+  hasMore: boolean;
+  resetRequired: boolean;
+  cities: City[];
+  expenses: Expense[];
+  schedules: Schedule[];
+  deleted: { type: SyncEntityType; seq: number }[];
+}
+
+const CURSOR_KEY = 'syncCursor';
+const SNAPSHOT_KEY = 'syncSnapshotVersion';
+
+// 변경분 동기화 (저장된 커서 이후만 받아 onChanges로 넘기고, 반영이 끝나면 커서 저장)
+// resetRequired면 onReset에서 로컬 데이터를 비운 뒤 커서 0부터 다시 받음
+// 전체 동기화 도중에는 snapshotVersion도 함께 저장해 다음 페이지에 보냄
+export const syncChanges = async (
+  onChanges: (changes: SyncResponse) => Promise<void>,
+  onReset: () => Promise<void>,
+): Promise<void> => {
+  let cursor = Number((await SecureStore.getItemAsync(CURSOR_KEY)) ?? 0);
+  let snapshotVersion = Number((await SecureStore.getItemAsync(SNAPSHOT_KEY)) ?? 0);
+  let hasMore = true;
+
+  while (hasMore) {
+    const response = await apiClient.get<SyncResponse>('/api/sync', { params: { cursor, snapshotVersion } });
+    const changes = response.data;
+
+    if (changes.resetRequired) {
+      await onReset();
+      cursor = 0;
+      snapshotVersion = 0;
+      await SecureStore.setItemAsync(CURSOR_KEY, '0');
+      await SecureStore.setItemAsync(SNAPSHOT_KEY, '0');
+      continue;
+    }
+
+    await onChanges(changes);
+    cursor = changes.cursor;
+    snapshotVersion = changes.snapshotVersion;
+    hasMore = changes.hasMore;
+    await SecureStore.setItemAsync(CURSOR_KEY, String(cursor));
+    await SecureStore.setItemAsync(SNAPSHOT_KEY, String(snapshotVersion));
+  }
+};
+
+// 로그아웃 시 커서 초기화
+export const clearSyncCursor = async (): Promise<void> => {
+  await SecureStore.deleteItemAsync(CURSOR_KEY);
+  await SecureStore.deleteItemAsync(SNAPSHOT_KEY);
+};